@@ -9,5 +9,5 @@ public enum CommandType {
     showPodcasts, removeAlbum, changePage, removePodcast, removeEvent, getTop5Albums,
     getTop5Artists, wrapped, buyPremium, cancelPremium, adBreak, subscribe,
     getNotifications, buyMerch, seeMerch, updateRecommendations, previousPage, loadRecommendations,
-    nextPage, endProgram
+    nextPage, endProgram, getRevenue
 }
@@ -1,5 +1,6 @@
 package commands.admin;
 
+import commands.normalUser.searchBar.SearchCache;
 import libraries.users.ArtistsLibrary;
 import libraries.users.HostsLibrary;
 import libraries.users.NormalUsersLibrary;
@@ -41,6 +42,7 @@ public final class AddUser {
             Host host = new Host(username, age, city);
             HostsLibrary.getInstance().addItem(host);
         }
+        SearchCache.getInstance().bumpCatalogVersion();
     }
 
     /**
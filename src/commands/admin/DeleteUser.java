@@ -1,5 +1,6 @@
 package commands.admin;
 
+import commands.normalUser.searchBar.SearchCache;
 import libraries.users.ArtistsLibrary;
 import libraries.users.HostsLibrary;
 import libraries.users.NormalUsersLibrary;
@@ -25,17 +26,15 @@ public final class DeleteUser {
         if (!state.equals(State.successfullyDeletedUser)) {
             return;
         }
-        if (ArtistsLibrary.getInstance().artistExists(username)) {
-            Artist artist = ArtistsLibrary.getInstance().getArtistByName(username);
-            ArtistsLibrary.getInstance().deleteArtist(artist);
-        } else if (NormalUsersLibrary.getInstance().userExists(username)) {
-            NormalUser user = NormalUsersLibrary.getInstance().getUserByName(username);
-            assert user != null;
-            NormalUsersLibrary.getInstance().deleteUser(user);
-        } else if (HostsLibrary.getInstance().hostExists(username)) {
-            Host host = HostsLibrary.getInstance().getHostByName(username);
-            HostsLibrary.getInstance().deleteHost(host);
+        User user = UsersLibrariesStats.getUserByName(username);
+        switch (UsersLibrariesStats.getUserType(username)) {
+            case artist -> ArtistsLibrary.getInstance().deleteArtist((Artist) user);
+            case user -> NormalUsersLibrary.getInstance().deleteUser((NormalUser) user);
+            case host -> HostsLibrary.getInstance().deleteHost((Host) user);
+            default -> {
+            }
         }
+        SearchCache.getInstance().bumpCatalogVersion();
     }
 
     /**
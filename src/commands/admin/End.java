@@ -5,14 +5,14 @@ import entities.user.NormalUser;
 import fileio.output.Output;
 import libraries.users.ArtistsLibrary;
 import libraries.users.NormalUsersLibrary;
-import statistics.calculator.ArtistCalculateRevenue;
-import statistics.calculator.FreeSongCalculateRevenue;
-import statistics.calculator.PremiumSongCalculateRevenue;
+import managers.TimeManager;
 import statistics.calculator.RevenueCalculator;
+import statistics.calculator.UsersCalculateRevenue;
 
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.LinkedHashMap;
+import java.util.List;
 
 import static commands.CommandType.endProgram;
 
@@ -27,22 +27,23 @@ public final class End {
      * @return an Output object with the command output
      */
     public static Output performEndProgram() {
+        TimeManager.getInstance().catchUpAllListeners();
         RevenueCalculator calculator = new RevenueCalculator();
         ArrayList<NormalUser> users = NormalUsersLibrary.getInstance().getItems();
-        for (NormalUser user : users) {
-            calculator.calculateRevenue(new PremiumSongCalculateRevenue(user));
-            int adPrice = user.getApp().getPlayerManager().getAdPrice();
-            if (adPrice > 0) {
-                calculator.calculateRevenue(new FreeSongCalculateRevenue(user.getFreeSongs(),
-                        adPrice));
-            }
-        }
+        calculator.calculateRevenue(new UsersCalculateRevenue(users));
 
         ArrayList<Artist> artists = ArtistsLibrary.getInstance().getItems();
-        for (Artist artist : artists) {
-            calculator.calculateRevenue(new ArtistCalculateRevenue(artist));
-        }
+        return new Output(endProgram, revenueStats(artists));
+    }
 
+    /**
+     * Ranks the artists by their revenue so far and gets the stats of the listened ones
+     * (the revenue is read from every artist's ledger)
+     *
+     * @param artists The artists, sorted in place by their ranking
+     * @return The stats of every listened artist, by their name
+     */
+    public static LinkedHashMap<String, Object> revenueStats(final List<Artist> artists) {
         artists.sort(Comparator.comparing(Artist::getTotalRevenue).reversed()
                 .thenComparing(Artist::getName));
         LinkedHashMap<String, Object> result = new LinkedHashMap<>();
@@ -54,14 +55,13 @@ public final class End {
             stats.put("merchRevenue", artist.getMerchRevenue());
             double songsRevenue = roundTwoDecimals(artist.getSongsRevenue());
             stats.put("songRevenue", songsRevenue);
-//            stats.put("songRevenue", artist.getSongsRevenueList());
 
             stats.put("ranking", result.size() + 1);
             String mostProfitableSong = artist.getMostProfitableSong();
             stats.put("mostProfitableSong", mostProfitableSong);
             result.put(artist.getName(), stats);
         }
-        return new Output(endProgram, result);
+        return result;
     }
 
     /**
@@ -1,5 +1,6 @@
 package commands.artist;
 
+import commands.normalUser.searchBar.SearchCache;
 import entities.audio.Song;
 import entities.audio.collections.Album;
 import libraries.audio.AlbumsLibrary;
@@ -45,6 +46,7 @@ public final class AddAlbum {
         artist.notifyObservers(notification);
         SongsLibrary.getInstance().addSongsFromAlbum(album);
         AlbumsLibrary.getInstance().addAlbum(album);
+        SearchCache.getInstance().bumpCatalogVersion();
     }
 
     /**
@@ -1,5 +1,6 @@
 package commands.host;
 
+import commands.normalUser.searchBar.SearchCache;
 import entities.audio.Episode;
 import entities.audio.collections.Podcast;
 import libraries.audio.PodcastsLibrary;
@@ -37,6 +38,7 @@ public final class AddPodcast {
         assert host != null;
         host.addPodcast(podcast);
         PodcastsLibrary.getInstance().addPodcast(podcast);
+        SearchCache.getInstance().bumpCatalogVersion();
         HashMap<String, String> notification = Notification
                 .getNotification(NotificationType.Announcement, username);
         host.notifyObservers(notification);
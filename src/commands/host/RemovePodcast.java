@@ -1,5 +1,6 @@
 package commands.host;
 
+import commands.normalUser.searchBar.SearchCache;
 import entities.audio.collections.Podcast;
 import libraries.audio.PodcastsLibrary;
 import libraries.users.HostsLibrary;
@@ -28,6 +29,7 @@ public final class RemovePodcast {
         Podcast podcast = host.getPodcastByName(podcastName);
         PodcastsLibrary.getInstance().removeItem(podcast);
         host.removePodcast(podcast);
+        SearchCache.getInstance().bumpCatalogVersion();
     }
 
     /**
@@ -2,13 +2,13 @@ package commands.normalUser.player;
 
 import commands.ActionCommand;
 import entities.audio.Audio;
-import entities.audio.Episode;
 import entities.audio.Song;
 import entities.audio.collections.Album;
 import entities.audio.collections.Collection;
 import entities.user.Artist;
 import entities.user.Host;
 import entities.user.NormalUser;
+import libraries.audio.AlbumsLibrary;
 import libraries.users.ArtistsLibrary;
 import libraries.users.HostsLibrary;
 import lombok.Getter;
@@ -17,10 +17,11 @@ import managers.normalUser.PlayerManager;
 import managers.normalUser.ProgressManager;
 import playables.PlayingAudio;
 import playables.PlayingAudioCollection;
-import statistics.listenTrackers.ListenTrackerArtist;
-import statistics.listenTrackers.ListenTrackerHost;
+import statistics.listenTrackers.ListenAggregator;
 import statistics.listenTrackers.ListenTrackerNormalUser;
 
+import java.util.Objects;
+
 public class Load extends ActionCommand {
     private final PlayerManager playerManager;
     private final Shuffle shuffle;
@@ -74,48 +75,24 @@ public class Load extends ActionCommand {
                 playerManager.setPlayingAudio(playingCollection.getPlayingNowObject());
                 Audio playingAudio = playingCollection.getPlayingNowObject().getPlayingObject();
 
-                playingCollection.getPlayingCollection().addListen(listenTracker);
-                playingAudio.addListen(listenTracker);
-
-                Artist artist = ArtistsLibrary.getInstance()
-                        .getArtistByName(playingCollection.getPlayingCollection().getOwner());
-                if (artist != null) {
-                    ListenTrackerArtist listenTrackerArtist = artist.getListenTracker();
-                    listenTrackerArtist
-                            .addListenAll((Album) playingCollection.getPlayingCollection(),
-                                    (Song) playingAudio,
-                                    user);
-                }
-                Host host = HostsLibrary.getInstance()
-                        .getHostByName(playingCollection.getPlayingCollection().getOwner());
-                if (host != null) {
-                    ListenTrackerHost listenTrackerHost = host.getListenTracker();
-                    listenTrackerHost
-                            .addListenAll((Episode) playingAudio,
-                                    user);
-                }
+                Collection<? extends Audio> collection = playingCollection.getPlayingCollection();
+                Album album = CheckClass.isAlbum(collection.getClass())
+                        ? (Album) collection : null;
+                listenTracker.addListen(playingAudio, 1, album, true,
+                        ownerTracker(collection.getOwner()));
             } else {
                 playerManager.setPlayingCollection(null);
                 PlayingAudio<?> playingAudio = new PlayingAudio<>(selection, user);
                 playerManager.setPlayingAudio(playingAudio);
-                playingAudio.getPlayingObject().addListen(listenTracker);
-                Artist artist = ArtistsLibrary.getInstance()
-                        .getArtistByName(playingAudio.getPlayingObject().getOwner());
-                if (artist != null) {
-                    String albumName = ((Song) playingAudio.getPlayingObject()).getAlbum();
-                    ListenTrackerArtist listenTrackerArtist = artist.getListenTracker();
-                    listenTrackerArtist.addListenAll(albumName,
-                            (Song) playingAudio.getPlayingObject(),
-                            user);
-                    user.getApp().getListenTracker().addListen(albumName);
-                }
-                Host host = HostsLibrary.getInstance()
-                        .getHostByName(playingAudio.getPlayingObject().getOwner());
-                if (host != null) {
-                    ListenTrackerHost listenTrackerHost = host.getListenTracker();
-                    listenTrackerHost
-                            .addListenAll((Episode) playingAudio.getPlayingObject(),
-                                    user);
+                Audio track = playingAudio.getPlayingObject();
+                if (ArtistsLibrary.getInstance().getArtistByName(track.getOwner()) != null) {
+                    Album album = AlbumsLibrary.getInstance()
+                            .getAlbumByName(((Song) track).getAlbum());
+                    listenTracker.addListen(track, 1, album, true,
+                            album == null ? null : ownerTracker(track.getOwner()));
+                    Objects.requireNonNull(album);
+                } else {
+                    listenTracker.addListen(track, 1, null, false, ownerTracker(track.getOwner()));
                 }
             }
             playerManager.getPlayingAudio().resume();
@@ -125,6 +102,22 @@ public class Load extends ActionCommand {
         }
         return successfullyLoaded;
     }
+
+    /**
+     * Gets the listen trackers of the artist or host with the specified name
+     *
+     * @param owner The name of the owner
+     * @return The trackers, or {@code null} if the owner isn't an artist or a host
+     */
+    private static ListenAggregator ownerTracker(final String owner) {
+        Artist artist = ArtistsLibrary.getInstance().getArtistByName(owner);
+        if (artist != null) {
+            return artist.getListenTracker();
+        }
+        Host host = HostsLibrary.getInstance().getHostByName(owner);
+        return host == null ? null : host.getListenTracker();
+    }
+
     /**
      * Executes the load operation if the source was selected
      */
@@ -26,8 +26,7 @@ public final class Next extends ActionCommand {
         }
         PlayingAudioCollection<?> playingAudioCollection = playerManager.getPlayingCollection();
         if (playingAudioCollection != null) {
-            String currentTrackRepeatValue = playingAudio.getRepeatValue();
-            if (currentTrackRepeatValue.equals(RepeatType.repeatCurrent.getValue())) {
+            if (playingAudio.getRepeatType() == RepeatType.repeatCurrent) {
                 playingAudio.resetRemainedTime();
                 playingAudio.resume();
             } else {
@@ -40,13 +39,13 @@ public final class Next extends ActionCommand {
                 playerManager.setPlayingAudio(playingAudioCollection.getPlayingNowObject());
             }
         } else {
-            String repeatValue = playingAudio.getRepeatValue();
-            if (repeatValue.equals(RepeatType.noRepeat.getValue())) {
+            RepeatType repeatType = playingAudio.getRepeatType();
+            if (repeatType == RepeatType.noRepeat) {
                 playingAudio.skipToEnd();
                 playerManager.setPlayingAudio(null);
             } else {
                 playingAudio.resetRemainedTime();
-                if (repeatValue.equals(RepeatType.repeatOnce.getValue())) {
+                if (repeatType == RepeatType.repeatOnce) {
                     playingAudio.setRepeatValue(RepeatType.noRepeat);
                 }
                 playingAudio.resume();
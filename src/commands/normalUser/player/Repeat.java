@@ -67,16 +67,16 @@ public final class Repeat extends ActionCommand {
      */
     private void repeatPlaylist(final PlayingAudioCollection<Playlist> playingPlaylist) {
         PlayingAudio<Song> playingSong = (PlayingAudio<Song>) playingPlaylist.getPlayingNowObject();
-        String repeatValue = playingSong.getRepeatValue();
-        if (repeatValue.equals(RepeatType.noRepeat.getValue())) {
+        RepeatType repeatType = playingSong.getRepeatType();
+        if (repeatType == RepeatType.noRepeat) {
             playingPlaylist.setPlaylistToRepeatAll();
             repeatState = RepeatType.repeatAll;
-        } else if (repeatValue.equals(RepeatType.repeatAll.getValue())) {
+        } else if (repeatType == RepeatType.repeatAll) {
 //            playingPlaylist.setPlaylistToNoRepeat();
 //            playingSong.setRepeatValue(RepeatType.repeatCurrent);
             playingPlaylist.setPlaylistToRepeat(RepeatType.repeatCurrent);
             repeatState = RepeatType.repeatCurrent;
-        } else if (repeatValue.equals(RepeatType.repeatCurrent.getValue())) {
+        } else if (repeatType == RepeatType.repeatCurrent) {
 //            playingSong.setRepeatValue(RepeatType.noRepeat);
             playingPlaylist.setPlaylistToNoRepeat();
             repeatState = RepeatType.noRepeat;
@@ -91,14 +91,14 @@ public final class Repeat extends ActionCommand {
      * @see RepeatType
      */
     private void repeatSongEpisode(final PlayingAudio<? extends Audio> playing) {
-        String repeatValue = playing.getRepeatValue();
-        if (repeatValue.equals(RepeatType.noRepeat.getValue())) {
+        RepeatType repeatType = playing.getRepeatType();
+        if (repeatType == RepeatType.noRepeat) {
             playing.setRepeatValue(RepeatType.repeatOnce);
             repeatState = RepeatType.repeatOnce;
-        } else if (repeatValue.equals(RepeatType.repeatOnce.getValue())) {
+        } else if (repeatType == RepeatType.repeatOnce) {
             playing.setRepeatValue(RepeatType.repeatInfinite);
             repeatState = RepeatType.repeatInfinite;
-        } else if (repeatValue.equals(RepeatType.repeatInfinite.getValue())) {
+        } else if (repeatType == RepeatType.repeatInfinite) {
             playing.setRepeatValue(RepeatType.noRepeat);
             repeatState = RepeatType.noRepeat;
         }
@@ -5,16 +5,12 @@ import managers.CheckClass;
 import managers.normalUser.PlayerManager;
 import playables.PlayingAudio;
 import playables.PlayingAudioCollection;
-
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.util.Random;
+import playables.ShuffledIndexes;
 
 public final class Shuffle extends ActionCommand {
     private final PlayerManager playerManager;
     private int seed;
-    private List<Integer> shuffledIndexes = null;
+    private ShuffledIndexes shuffledIndexes = null;
 
     public Shuffle(final PlayerManager playerManager) {
         this.playerManager = playerManager;
@@ -40,7 +36,7 @@ public final class Shuffle extends ActionCommand {
         playingAudioCollection.setShuffle();
         if (playingAudioCollection.isShuffled()) {
             if (shuffledIndexes == null) {
-                shuffledIndexes = generateShuffledIndexList(collectionSize);
+                shuffledIndexes = new ShuffledIndexes(collectionSize, seed);
                 playingAudioCollection.setShuffledIndexes(shuffledIndexes);
             }
             PlayingAudio<?> playingAudio = playingAudioCollection.getPlayingNowObject();
@@ -71,35 +67,6 @@ public final class Shuffle extends ActionCommand {
         return "Shuffle function deactivated successfully.";
     }
 
-    /**
-     * Generated an ordered list with indexes from 0 to the specified number
-     *
-     * @param num The number of indexes (the size of the list)
-     * @return The list of ordered indexes
-     */
-    private ArrayList<Integer> generateOrderedIndexList(final int num) {
-        ArrayList<Integer> orderedIndexList = new ArrayList<>();
-        for (int i = 0; i < num; i++) {
-            orderedIndexList.add(i);
-        }
-        return orderedIndexList;
-    }
-
-    /**
-     * Generates a shuffled list of indexes based on the specified seed
-     * using the {@code Random} class
-     *
-     * @param num the number of indexes (length of the list)
-     * @return a list of shuffled indexes
-     * @see Random
-     * @see Collections
-     */
-    private ArrayList<Integer> generateShuffledIndexList(final int num) {
-        ArrayList<Integer> shuffledIndexList = generateOrderedIndexList(num);
-        Collections.shuffle(shuffledIndexList, new Random(seed));
-        return shuffledIndexList;
-    }
-
     /**
      * Sets the seed for the shuffling command
      * Must be used before the execute command
@@ -113,11 +80,11 @@ public final class Shuffle extends ActionCommand {
     }
 
     /**
-     * Sets the shuffled indexes list
+     * Sets the shuffled indexes
      *
-     * @param shuffledIndexes The list of indexes to be set
+     * @param shuffledIndexes The shuffled order to be set
      */
-    public void setShuffledIndexes(final List<Integer> shuffledIndexes) {
+    public void setShuffledIndexes(final ShuffledIndexes shuffledIndexes) {
         this.shuffledIndexes = shuffledIndexes;
     }
 }
@@ -3,6 +3,7 @@ package commands.normalUser.playlist;
 import entities.audio.Song;
 import entities.audio.collections.Playlist;
 import commands.ActionCommand;
+import commands.normalUser.searchBar.SearchCache;
 import libraries.audio.PlaylistsLibrary;
 import libraries.users.NormalUsersLibrary;
 
@@ -27,6 +28,7 @@ public final class CreatePlaylist extends ActionCommand {
             Playlist newPlaylist = new Playlist(playlistName, username, songs);
             PlaylistsLibrary.getInstance().addItem(newPlaylist);
             NormalUsersLibrary.getInstance().getUserByName(username).addPlaylist(newPlaylist);
+            SearchCache.getInstance().bumpCatalogVersion();
             successfullyCreatedPlaylist = true;
         }
         setMessage(toString());
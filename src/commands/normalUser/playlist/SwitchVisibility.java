@@ -2,6 +2,7 @@ package commands.normalUser.playlist;
 
 import entities.audio.collections.Playlist;
 import commands.ActionCommand;
+import commands.normalUser.searchBar.SearchCache;
 
 public final class SwitchVisibility extends ActionCommand {
     private Playlist playlist;
@@ -17,6 +18,7 @@ public final class SwitchVisibility extends ActionCommand {
             return;
         }
         playlist.switchVisibility();
+        SearchCache.getInstance().bumpCatalogVersion();
         setMessage(toString());
     }
 
@@ -2,12 +2,15 @@ package commands.normalUser.searchBar;
 
 import commands.ActionCommand;
 import commands.normalUser.searchBar.filter.Filter;
+import commands.normalUser.searchBar.filter.FilterEstimate;
 import commands.normalUser.searchBar.filter.Filters;
 import lombok.Getter;
 
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.function.Function;
 
 public abstract class Search<E> extends ActionCommand {
     protected static final int MAX_NUM_OF_RESULTS = 5;
@@ -18,43 +21,81 @@ public abstract class Search<E> extends ActionCommand {
     protected ArrayList<? extends E> filteredObjects;
 
     /**
-     * Initialize mapping between the search type and the filter used
+     * Initialize the filter used for the specified search type in the mapping between the
+     * search type and the filter used (the filters of the other types aren't built)
+     *
+     * @param searchType The type of search to be performed
+     */
+    protected abstract void initSearchTypeFilter(SearchType searchType);
+
+    /**
+     * Gets the class of the searched objects
+     *
+     * @return The class
      */
-    protected abstract void initSearchTypeFilter();
+    protected abstract Class<E> getSearchedClass();
 
     /**
      * Executes a search operation based on the specified search type and filters,
      * then populates the searchResults list with the names of the matching entities.audio objects.
+     * A search repeated in the same version of the catalog reuses the cached results,
+     * without building or applying the filters again
      *
      * @param type    The type of search to be performed
      * @param filters The filters used for searching
      */
     public final void execute(final String type, final Map<Filters, Object> filters) {
         SearchType searchType = SearchType.fromString(type);
-        initSearchTypeFilter();
         searchResults = new ArrayList<>();
+        SearchCache cache = SearchCache.getInstance();
+        SearchCache.Key key = cache.keyOf(searchType, filters);
+        SearchCache.Results<E> cached = cache.get(key, getSearchedClass());
+        if (cached != null) {
+            filteredObjects = new ArrayList<>(cached.objects());
+            searchResults.addAll(cached.names());
+            setMessage(toString());
+            return;
+        }
+        initSearchTypeFilter(searchType);
         Filter<? extends E> filter = searchTypeFilter.get(searchType);
-        for (Map.Entry<Filters, Object> filter2 : filters.entrySet()) {
-            Filters key = filter2.getKey();
-            if (key == null) {
-                break;
-            }
-            if (filter.getFilterMethods() == null) {
-                break;
-            }
-            Function<Object, ? extends Filter<E>> function =
-                    (Function<Object, ? extends Filter<E>>) filter.getFilterMethods().get(key);
-            if (function == null) {
-                break;
-            }
-            filter.getFilterMethods().get(key).apply(filter2.getValue());
+        for (Map.Entry<Filters, Object> plannedFilter : planFilters(filter, filters)) {
+            filter.getFilterMethods().get(plannedFilter.getKey()).apply(plannedFilter.getValue());
         }
-//        filters.forEach((key, value) -> filter.getFilterMethods().get(key).apply(value));
         filteredObjects = filter.keepFirstObjects(MAX_NUM_OF_RESULTS).getFilteredObjects();
         addResults();
+        cache.put(key, new SearchCache.Results<>(searchResults, filteredObjects));
         setMessage(toString());
     }
 
+    /**
+     * Plans the order in which the filters are applied
+     * The filters given after the first one that can't be applied to the searched objects
+     * are ignored, and the rest are ordered from the cheapest and most selective one
+     * to the most expensive one, based on the estimates of the filter
+     *
+     * @param filter  The filter for the searched objects
+     * @param filters The filters used for searching
+     * @return The filters, in the order they should be applied
+     * @see FilterEstimate
+     */
+    private List<Map.Entry<Filters, Object>> planFilters(final Filter<? extends E> filter,
+                                                         final Map<Filters, Object> filters) {
+        ArrayList<Map.Entry<Filters, Object>> plan = new ArrayList<>();
+        HashMap<Filters, FilterEstimate> estimates = new HashMap<>();
+        for (Map.Entry<Filters, Object> entry : filters.entrySet()) {
+            Filters key = entry.getKey();
+            if (key == null
+                    || filter.getFilterMethods() == null
+                    || filter.getFilterMethods().get(key) == null) {
+                break;
+            }
+            plan.add(entry);
+            estimates.put(key, filter.estimate(key, entry.getValue()));
+        }
+        plan.sort(Comparator.comparing(entry -> estimates.get(entry.getKey())));
+        return plan;
+    }
+
     /**
      * Add the results of the searching operation
      * searchResults should be set here
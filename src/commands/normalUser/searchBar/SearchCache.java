@@ -0,0 +1,131 @@
+package commands.normalUser.searchBar;
+
+import commands.normalUser.searchBar.filter.Filters;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps the results of the latest searches (least recently used ones are dropped first),
+ * so a repeated search doesn't filter the libraries again
+ * A search is identified by its type, its filters and the version of the catalog, which
+ * is incremented every time the searchable items change
+ */
+public final class SearchCache {
+    private static final int MAX_NUM_OF_SEARCHES = 128;
+    private static SearchCache instance = null;
+    private final LinkedHashMap<Key, Results<?>> searches =
+            new LinkedHashMap<>(MAX_NUM_OF_SEARCHES, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<Key, Results<?>> eldest) {
+                    return size() > MAX_NUM_OF_SEARCHES;
+                }
+            };
+    private int catalogVersion = 0;
+
+    private SearchCache() {
+    }
+
+    /**
+     * Gets the instance for the search cache class (singleton pattern)
+     * Initialize it if needed
+     *
+     * @return The instance
+     */
+    public static synchronized SearchCache getInstance() {
+        if (instance == null) {
+            instance = new SearchCache();
+        }
+        return instance;
+    }
+
+    /**
+     * Marks the catalog as changed, so the searches made before aren't reused
+     * It must be called every time the searchable items (or what they're filtered by) change
+     */
+    public void bumpCatalogVersion() {
+        catalogVersion++;
+    }
+
+    /**
+     * Gets the key of a search in the current version of the catalog
+     * The filters keep their order, because the ones given after a filter that can't be
+     * applied are ignored; the filters after an unknown one are ignored for every type
+     *
+     * @param searchType The type of the search
+     * @param filters    The filters used for searching
+     * @return The key
+     */
+    public Key keyOf(final SearchType searchType, final Map<Filters, Object> filters) {
+        ArrayList<Map.Entry<Filters, Object>> normalizedFilters = new ArrayList<>();
+        for (Map.Entry<Filters, Object> filter : filters.entrySet()) {
+            if (filter.getKey() == null) {
+                break;
+            }
+            Object value = filter.getValue();
+            if (value instanceof List<?> values) {
+                value = Collections.unmodifiableList(new ArrayList<>(values));
+            }
+            normalizedFilters.add(new AbstractMap.SimpleImmutableEntry<>(filter.getKey(), value));
+        }
+        return new Key(searchType, normalizedFilters, catalogVersion);
+    }
+
+    /**
+     * Gets the results of a search made before, checking that the objects found are of the
+     * class the searcher expects (the type of the search in the key decides their class)
+     *
+     * @param key  The key of the search
+     * @param type The class of the searched objects
+     * @param <E>  The class of the searched objects
+     * @return The results or {@code null} if the search isn't cached
+     */
+    public <E> Results<E> get(final Key key, final Class<E> type) {
+        Results<?> results = searches.get(key);
+        if (results == null) {
+            return null;
+        }
+        return new Results<>(results.names(),
+                results.objects().stream().map(type::cast).toList());
+    }
+
+    /**
+     * Caches the results of a search
+     *
+     * @param key     The key of the search
+     * @param results The results of the search
+     */
+    public void put(final Key key, final Results<?> results) {
+        searches.put(key, results);
+    }
+
+    /**
+     * Identifies a search
+     *
+     * @param searchType     The type of the search
+     * @param filters        The normalized filters, in the order they were given
+     * @param catalogVersion The version of the catalog the search was made in
+     */
+    public record Key(SearchType searchType,
+                      List<Map.Entry<Filters, Object>> filters,
+                      int catalogVersion) {
+    }
+
+    /**
+     * The results of a search
+     *
+     * @param names   The names of the results
+     * @param objects The objects found
+     * @param <E>     The class of the objects found
+     */
+    public record Results<E>(List<String> names, List<? extends E> objects) {
+        public Results {
+            names = List.copyOf(names);
+            objects = List.copyOf(objects);
+        }
+    }
+}
@@ -8,10 +8,8 @@ import commands.normalUser.searchBar.filter.filterAudio.FilterSongs;
 import commands.normalUser.searchBar.filter.filterAudio.filterCollections.FilterAlbums;
 import commands.normalUser.searchBar.filter.filterAudio.filterCollections.FilterPlaylists;
 import commands.normalUser.searchBar.filter.filterAudio.filterCollections.FilterPodcasts;
+import commands.normalUser.searchBar.index.SearchIndexes;
 import libraries.audio.AlbumsLibrary;
-import libraries.audio.PlaylistsLibrary;
-import libraries.audio.PodcastsLibrary;
-import libraries.audio.SongsLibrary;
 
 import java.util.HashMap;
 
@@ -21,22 +19,31 @@ public final class SearchAudio extends Search<Audio> {
         searchTypeFilter.put(searchType, filter);
     }
     @Override
-    protected void initSearchTypeFilter() {
+    protected void initSearchTypeFilter(final SearchType searchType) {
         if (searchTypeFilter == null) {
             searchTypeFilter = new HashMap<>();
         }
-        putFilter(SearchType.song,
-                new FilterSongs(SongsLibrary.getInstance().getItems()));
-        putFilter(SearchType.podcast,
-                new FilterPodcasts(PodcastsLibrary.getInstance().getItems()));
-        putFilter(SearchType.playlist,
-                new FilterPlaylists(PlaylistsLibrary.getInstance().getItems()));
-        if (AlbumsLibrary.getInstance().getItems() != null) {
-            putFilter(SearchType.album,
-                    new FilterAlbums(AlbumsLibrary.getInstance().sortAlbumsByArtistOrder()));
+        SearchIndexes indexes = SearchIndexes.getInstance();
+        switch (searchType) {
+            case song -> putFilter(searchType, new FilterSongs(indexes.getSongsIndex()));
+            case podcast -> putFilter(searchType, new FilterPodcasts(indexes.getPodcastsIndex()));
+            case playlist ->
+                    putFilter(searchType, new FilterPlaylists(indexes.getPlaylistsIndex()));
+            case album -> {
+                if (AlbumsLibrary.getInstance().getItems() != null) {
+                    putFilter(searchType, new FilterAlbums(indexes.getAlbumsIndex()));
+                }
+            }
+            default -> {
+            }
         }
     }
 
+    @Override
+    protected Class<Audio> getSearchedClass() {
+        return Audio.class;
+    }
+
     @Override
     public void addResults() {
         for (Audio audio : filteredObjects) {
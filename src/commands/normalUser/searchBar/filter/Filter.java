@@ -3,38 +3,188 @@ package commands.normalUser.searchBar.filter;
 import lombok.Getter;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
 
-@Getter
-public abstract class Filter<E> {
+/**
+ * Filters a list of objects
+ * The filters only record the postings and the checks the objects must pass; the objects
+ * are matched lazily, one by one, when they are iterated or taken
+ *
+ * @param <E> The class of the filtered objects
+ */
+public abstract class Filter<E> implements Iterable<E> {
     /**
      * -- GETTER --
      * Get the mapping between the filtering methods and the filters applied
      */
+    @Getter
     protected Map<Filters, Function<Object, ? extends Filter<E>>> filterMethods;
     /**
-     * -- GETTER --
+     * The objects that are filtered (they aren't copied or modified)
+     */
+    private final List<? extends E> objects;
+    /**
+     * The positions of the objects that are filtered
+     * ({@code null} when all the positions in the list are filtered)
+     */
+    private final int[] positions;
+    /**
+     * The postings the positions of the objects must be found in
+     */
+    private final ArrayList<int[]> postingsLists = new ArrayList<>();
+    /**
+     * The checks the objects must pass, in the order the filters were applied
+     */
+    private final ArrayList<IntPredicate> checks = new ArrayList<>();
+    /**
+     * The objects resulted after filtering, taken when they're first needed
+     */
+    private ArrayList<E> filteredObjects = null;
+
+    protected Filter(final List<? extends E> objects) {
+        this(objects, null);
+    }
+
+    /**
+     * Filters only the objects found at the specified positions
+     * (for the lists kept by an index, which leaves the positions of removed objects empty)
+     *
+     * @param objects   The objects
+     * @param positions The positions of the objects that are filtered
+     */
+    protected Filter(final List<? extends E> objects, final int[] positions) {
+        this.objects = objects;
+        this.positions = positions;
+    }
+
+    /**
      * Gets the objects resulted after filtering them
+     * All the filters must be applied before the objects are taken
+     *
+     * @return the filtered objects, in their original order
      */
-    protected ArrayList<E> filteredObjects;
+    public ArrayList<E> getFilteredObjects() {
+        if (filteredObjects == null) {
+            filteredObjects = new ArrayList<>();
+            forEach(filteredObjects::add);
+        }
+        return filteredObjects;
+    }
 
     /**
      * Keeps only the first specified number of results after filtering was done
+     * The objects are matched only until one more than the count is found. When there are
+     * more results than the count, the first ones that aren't equal to themselves are dropped
+     * too (as {@code retainAll} on the first objects did, see {@code Playlist.equals})
      *
      * @param <T>   the class of the objects that were filtered
      * @param count the maximum number of objects to keep
-     * @return a list of filtered objects
+     * @return the current instance
      */
     public final <T extends Filter<E>> T keepFirstObjects(final int count) {
-        if (filteredObjects.size() > count) {
-            List<E> firstObjects = filteredObjects.subList(0, count);
-            filteredObjects.retainAll(firstObjects);
+        ArrayList<E> firstObjects = new ArrayList<>();
+        Iterator<E> matches = iterator();
+        while (firstObjects.size() <= count && matches.hasNext()) {
+            firstObjects.add(matches.next());
         }
+        if (firstObjects.size() > count) {
+            firstObjects.remove(count);
+            firstObjects.removeIf(object -> !object.equals(object));
+        }
+        filteredObjects = firstObjects;
         return (T) this;
     }
 
+    /**
+     * Gets an iterator that matches the objects lazily, in their original order
+     *
+     * @return the iterator over the filtered objects
+     */
+    @Override
+    public Iterator<E> iterator() {
+        MatchingPositions positions = new MatchingPositions();
+        return new Iterator<>() {
+            private int next = positions.next();
+
+            @Override
+            public boolean hasNext() {
+                return next != MatchingPositions.NONE;
+            }
+
+            @Override
+            public E next() {
+                if (next == MatchingPositions.NONE) {
+                    throw new NoSuchElementException();
+                }
+                E object = objects.get(next);
+                next = positions.next();
+                return object;
+            }
+        };
+    }
+
+    /**
+     * Estimates how selective and how expensive the specified filter is for these objects
+     * By default, every object is checked and all of them are expected to pass
+     *
+     * @param key   The filter
+     * @param value The value the filter is applied with
+     * @return The estimate
+     */
+    public FilterEstimate estimate(final Filters key, final Object value) {
+        return FilterEstimate.UNKNOWN;
+    }
+
+    /**
+     * Keeps only the objects that match the specified predicate
+     *
+     * @param predicate The condition the objects must meet
+     */
+    protected final void retainIf(final Predicate<? super E> predicate) {
+        retainPositionsIf(position -> predicate.test(objects.get(position)));
+    }
+
+    /**
+     * Keeps only the objects whose positions match the specified predicate
+     * (for checks that are answered by an index built over the filtered objects)
+     *
+     * @param predicate The condition the positions must meet
+     */
+    protected final void retainPositionsIf(final IntPredicate predicate) {
+        checks.add(predicate);
+    }
+
+    /**
+     * Keeps only the objects found at the specified positions
+     * (the postings must come from an index built over the filtered objects)
+     *
+     * @param postings The positions of the objects to be kept
+     */
+    protected final void retainPostings(final int[] postings) {
+        postingsLists.add(postings);
+    }
+
+    /**
+     * Counts the positions the search would go through with the postings retained so far
+     * (the smallest postings or all the filtered positions)
+     *
+     * @return The number of positions
+     */
+    protected final int candidatesCount() {
+        int count = positions == null ? objects.size() : positions.length;
+        for (int[] postings : postingsLists) {
+            count = Math.min(count, postings.length);
+        }
+        return count;
+    }
+
     /**
      * Initializes the filter methods aka the mapping between the filtering
      * method and the filter applied.
@@ -43,4 +193,81 @@ public abstract class Filter<E> {
      * @see Filters
      */
     public abstract void initAllFilterMethods();
+
+    /**
+     * Walks the positions of the objects that pass all the filters, in ascending order
+     * The smallest postings (or all the filtered positions, without postings) drive the walk;
+     * every position taken from it is looked up in the other postings (which are only
+     * searched forward) and then checked
+     */
+    private final class MatchingPositions {
+        private static final int NONE = -1;
+        private final int[] driver;
+        private final int[] cursors = new int[postingsLists.size()];
+        private int index = 0;
+
+        private MatchingPositions() {
+            int[] smallest = null;
+            for (int[] postings : postingsLists) {
+                if (smallest == null || postings.length < smallest.length) {
+                    smallest = postings;
+                }
+            }
+            driver = smallest == null ? positions : smallest;
+        }
+
+        /**
+         * Finds the next position that passes all the filters
+         *
+         * @return the position or {@code NONE} if there are no more matches
+         */
+        private int next() {
+            int end = driver == null ? objects.size() : driver.length;
+            while (index < end) {
+                int position = driver == null ? index : driver[index];
+                index++;
+                if (inAllPostings(position) && passesChecks(position)) {
+                    return position;
+                }
+            }
+            return NONE;
+        }
+
+        /**
+         * Checks if the position is found in all the postings
+         *
+         * @param position The position, greater than all the ones looked up before
+         * @return {@code true} if it's found, {@code false} otherwise
+         */
+        private boolean inAllPostings(final int position) {
+            for (int i = 0; i < postingsLists.size(); i++) {
+                int[] postings = postingsLists.get(i);
+                if (postings == driver) {
+                    continue;
+                }
+                int found = Arrays.binarySearch(postings, cursors[i], postings.length, position);
+                if (found < 0) {
+                    cursors[i] = -found - 1;
+                    return false;
+                }
+                cursors[i] = found + 1;
+            }
+            return true;
+        }
+
+        /**
+         * Checks if the object at the specified position passes all the checks
+         *
+         * @param position The position of the object
+         * @return {@code true} if it passes them, {@code false} otherwise
+         */
+        private boolean passesChecks(final int position) {
+            for (IntPredicate check : checks) {
+                if (!check.test(position)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
 }
@@ -0,0 +1,66 @@
+package commands.normalUser.searchBar.filter;
+
+/**
+ * Estimate for applying a filter, used to decide the order in which the filters are applied
+ * Cheaper filters come first and, between filters with the same cost, the ones that keep
+ * fewer objects
+ *
+ * @param cost        How expensive it is to apply the filter
+ * @param selectivity The estimated fraction (from 0 to 1) of the objects that pass the filter
+ */
+public record FilterEstimate(Cost cost, double selectivity)
+        implements Comparable<FilterEstimate> {
+    /**
+     * Estimate for a filter that checks every object and is expected to keep all of them
+     */
+    public static final FilterEstimate UNKNOWN = new FilterEstimate(Cost.check, 1);
+
+    /**
+     * Estimate for a filter answered by an index
+     *
+     * @param matches The number of objects found in the index
+     * @param total   The number of indexed objects
+     * @return The estimate
+     */
+    public static FilterEstimate lookup(final int matches, final int total) {
+        return of(Cost.lookup, matches, total);
+    }
+
+    /**
+     * Estimate for a filter with the specified cost
+     *
+     * @param cost    How expensive it is to apply the filter
+     * @param matches The number of objects expected to pass the filter
+     * @param total   The number of objects
+     * @return The estimate
+     */
+    public static FilterEstimate of(final Cost cost, final int matches, final int total) {
+        return new FilterEstimate(cost, total == 0 ? 0 : (double) matches / total);
+    }
+
+    @Override
+    public int compareTo(final FilterEstimate other) {
+        if (cost != other.cost) {
+            return cost.compareTo(other.cost);
+        }
+        return Double.compare(selectivity, other.selectivity);
+    }
+
+    /**
+     * How expensive a filter is, from the cheapest to the most expensive
+     */
+    public enum Cost {
+        /**
+         * The matching objects are read from an index
+         */
+        lookup,
+        /**
+         * Every object is checked with a simple comparison
+         */
+        check,
+        /**
+         * Every object is checked by searching through a text
+         */
+        textSearch
+    }
+}
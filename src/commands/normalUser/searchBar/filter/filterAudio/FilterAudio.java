@@ -1,8 +1,13 @@
 package commands.normalUser.searchBar.filter.filterAudio;
 
+import commands.normalUser.searchBar.filter.FilterEstimate;
+import commands.normalUser.searchBar.filter.Filters;
+import commands.normalUser.searchBar.index.AudioIndex;
 import entities.audio.Audio;
 import commands.normalUser.searchBar.filter.Filter;
 
+import java.util.List;
+
 
 /**
  * For filtering {@code Audio} collections or arrays
@@ -10,6 +15,39 @@ import commands.normalUser.searchBar.filter.Filter;
  * @param <E> The collection class or the class of the objects from within the array
  */
 public abstract class FilterAudio<E extends Audio> extends Filter<E> {
+    /**
+     * The index built over the filtered objects
+     * ({@code null} when filtering a list that isn't indexed)
+     */
+    protected final AudioIndex<? extends E> index;
+
+    protected FilterAudio(final List<? extends E> objects) {
+        super(objects);
+        this.index = null;
+    }
+
+    protected FilterAudio(final AudioIndex<? extends E> index) {
+        super(index.getItems(), index.getAllPostings());
+        this.index = index;
+    }
+
+    @Override
+    public FilterEstimate estimate(final Filters key, final Object value) {
+        if (index != null && key == Filters.name) {
+            return lookup(index.getNamePostings((String) value));
+        }
+        return super.estimate(key, value);
+    }
+
+    /**
+     * Gets the estimate for a filter answered by the index
+     *
+     * @param postings The positions found in the index
+     * @return The estimate
+     */
+    protected final FilterEstimate lookup(final int[] postings) {
+        return FilterEstimate.lookup(postings.length, index.size());
+    }
 
     /**
      * Filters objects by their names
@@ -20,7 +58,11 @@ public abstract class FilterAudio<E extends Audio> extends Filter<E> {
 
     public final <T extends Filter<E>> T byName(final Object nameObj) {
         String name = (String) nameObj;
-        filteredObjects.removeIf(object -> !object.nameStartsWith(name));
+        if (index != null) {
+            retainPostings(index.getNamePostings(name));
+        } else {
+            retainIf(object -> object.nameStartsWith(name));
+        }
         return (T) this;
     }
 }
@@ -1,20 +1,24 @@
 package commands.normalUser.searchBar.filter.filterAudio;
 
+import commands.normalUser.searchBar.filter.FilterEstimate;
+import commands.normalUser.searchBar.index.LyricsIndex;
+import commands.normalUser.searchBar.index.SongsIndex;
 import entities.audio.Song;
 import commands.normalUser.searchBar.filter.Filters;
 
-import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.Objects;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.List;
 
 /**
  * For filtering songs
  */
 public final class FilterSongs extends FilterAudio<Song> {
-    public FilterSongs(final ArrayList<Song> songs) {
-        this.filteredObjects = new ArrayList<>(songs);
+    private final SongsIndex songsIndex;
+    private YearPredicate yearPredicate = null;
+
+    public FilterSongs(final SongsIndex songsIndex) {
+        super(songsIndex);
+        this.songsIndex = songsIndex;
         initAllFilterMethods();
     }
 
@@ -30,6 +34,23 @@ public final class FilterSongs extends FilterAudio<Song> {
         filterMethods.put(Filters.tags, this::byTags);
     }
 
+    @Override
+    public FilterEstimate estimate(final Filters key, final Object value) {
+        int songsCount = songsIndex.size();
+        return switch (key) {
+            case album -> lookup(songsIndex.getAlbumPostings((String) value));
+            case genre -> lookup(songsIndex.getGenrePostings((String) value));
+            case artist -> lookup(songsIndex.getArtistPostings((String) value));
+            case tags -> FilterEstimate.lookup(
+                    songsIndex.estimateTagsMatches(tagsOf(value)), songsCount);
+            case releaseYear -> FilterEstimate.lookup(
+                    parseYearQuery((String) value).count(songsIndex), songsCount);
+            case lyrics -> FilterEstimate.of(FilterEstimate.Cost.textSearch,
+                    songsIndex.getLyricsIndex().estimateMatches((String) value), songsCount);
+            default -> super.estimate(key, value);
+        };
+    }
+
     /**
      * Filters songs that contain the specified album
      *
@@ -37,8 +58,7 @@ public final class FilterSongs extends FilterAudio<Song> {
      * @return current instance
      */
     public FilterSongs byAlbum(final Object albumObj) {
-        String album = (String) albumObj;
-        filteredObjects.removeIf(song -> !song.inAlbum(album));
+        retainPostings(songsIndex.getAlbumPostings((String) albumObj));
         return this;
     }
 
@@ -49,11 +69,24 @@ public final class FilterSongs extends FilterAudio<Song> {
      * @return current instance
      */
     public FilterSongs byTags(final Object tagsObj) {
-        ArrayList<String> tags = (ArrayList<String>) tagsObj;
-        filteredObjects.removeIf(song -> !song.containsTags(tags));
+        for (String tag : tagsOf(tagsObj)) {
+            retainPostings(songsIndex.getTagPostings(tag));
+        }
         return this;
     }
 
+    /**
+     * Gets the searched tags from the value of the tags filter, checking every tag
+     *
+     * @param tagsObj The value of the filter (a list of tags)
+     * @return The tags
+     */
+    private static List<String> tagsOf(final Object tagsObj) {
+        return ((List<?>) tagsObj).stream()
+                .map(String.class::cast)
+                .toList();
+    }
+
     /**
      * Filters songs that contain the lyrics specified
      *
@@ -62,7 +95,12 @@ public final class FilterSongs extends FilterAudio<Song> {
      */
     public FilterSongs byLyrics(final Object lyricsObj) {
         String lyrics = (String) lyricsObj;
-        filteredObjects.removeIf(song -> !song.containsLyrics(lyrics));
+        LyricsIndex lyricsIndex = songsIndex.getLyricsIndex();
+        int[] candidates = lyricsIndex.getCandidates(lyrics);
+        if (candidates != null) {
+            retainPostings(candidates);
+        }
+        retainPositionsIf(lyricsIndex.matcher(lyrics));
         return this;
     }
 
@@ -73,90 +111,39 @@ public final class FilterSongs extends FilterAudio<Song> {
      * @return current instance
      */
     public FilterSongs byGenre(final Object genreObj) {
-        String genre = (String) genreObj;
-        filteredObjects.removeIf(song -> !song.isGenre(genre));
+        retainPostings(songsIndex.getGenrePostings((String) genreObj));
         return this;
     }
 
     /**
-     * Filters songs that were released before the specified year
-     *
-     * @param year The year we should compare the release year to
-     */
-    private void filterSongsBeforeYear(final Integer year) {
-        filteredObjects.removeIf(song -> !song.releasedBeforeYear(year));
-    }
-
-    /**
-     * Filters songs that were released after the specified year
-     *
-     * @param year The year we should compare the release year to
-     */
-    private void filterSongsAfterYear(final Integer year) {
-        filteredObjects.removeIf(song -> !song.releasedAfterYear(year));
-    }
-
-    /**
-     * Parses the input string into an integer for the year and a symbol (lesser or greater)
-     *
-     * @param yearQuery The search string for the year
-     * @return the matched groups (symbol + integer)
-     */
-    private Matcher parseYearString(final String yearQuery) {
-        Pattern yearPattern = Pattern.compile("([<>])(\\d+)");
-        return yearPattern.matcher(yearQuery);
-    }
-
-    /**
-     * Gets the year (value) from the specified year query
-     *
-     * @param yearQuery The string we search in for the year
-     * @return the year
-     */
-    private Integer getYearFromString(final String yearQuery) {
-        Matcher matcher = parseYearString(yearQuery);
-        if (matcher.find()) {
-            return Integer.parseInt(matcher.group(2));
-        }
-        return null;
-    }
-
-    /**
-     * Gets the comparison operator from the specified year query
+     * Gets the parsed release year query, parsing it only the first time it's used
+     * (once for estimating the filter and applying it in the same search)
      *
-     * @param yearQuery The string we search in for the comparison symbol
-     * @return the comparison operator (lesser or greater)
+     * @param yearQuery The year query
+     * @return The parsed query
      */
-    private Comparison getComparisonFromString(final String yearQuery) {
-        Comparison lesser = Comparison.lesser;
-        Comparison greater = Comparison.greater;
-        Matcher matcher = parseYearString(yearQuery);
-        boolean ret = matcher.find();
-        if (ret) {
-            if (matcher.group(1).equals(lesser.getSymbol())) {
-                return lesser;
-            } else if (matcher.group(1).equals(greater.getSymbol())) {
-                return greater;
-            }
+    private YearPredicate parseYearQuery(final String yearQuery) {
+        if (yearPredicate == null || !yearPredicate.query().equals(yearQuery)) {
+            yearPredicate = YearPredicate.parse(yearQuery);
         }
-        return null;
+        return yearPredicate;
     }
 
     /**
      * Filters songs by their release year as specified by the year query
+     * When the range of the matching songs in the sorted release years is smaller than the
+     * candidates found so far, the range drives the search; otherwise every candidate is
+     * checked against its release year
      *
      * @param yearQueryObj The year we search the songs by
      * @return current instance
      */
     public FilterSongs byReleaseYear(final Object yearQueryObj) {
-        String yearQuery = (String) yearQueryObj;
-        Integer year = getYearFromString(yearQuery);
-        if (Objects.equals(getComparisonFromString(yearQuery), Comparison.lesser)) {
-            filterSongsBeforeYear(year);
-        } else if (Objects.equals(getComparisonFromString(yearQuery), Comparison.greater)) {
-            filterSongsAfterYear(year);
+        YearPredicate predicate = parseYearQuery((String) yearQueryObj);
+        if (predicate.count(songsIndex) < candidatesCount()) {
+            retainPostings(predicate.postings(songsIndex));
         } else {
-            filteredObjects.clear();
+            retainPositionsIf(predicate.matcher(songsIndex));
         }
         return this;
     }
@@ -168,24 +155,7 @@ public final class FilterSongs extends FilterAudio<Song> {
      * @return a list of filtered songs
      */
     public FilterSongs byArtist(final Object artistObj) {
-        String artist = (String) artistObj;
-        filteredObjects.removeIf(song -> !song.createdBy(artist));
+        retainPostings(songsIndex.getArtistPostings((String) artistObj));
         return this;
     }
-
-    /**
-     * For comparisons between integers
-     */
-    enum Comparison {
-        greater(">"), lesser("<");
-        private final String symbol;
-
-        Comparison(final String symbol) {
-            this.symbol = symbol;
-        }
-
-        public String getSymbol() {
-            return symbol;
-        }
-    }
 }
@@ -0,0 +1,117 @@
+package commands.normalUser.searchBar.filter.filterAudio;
+
+import commands.normalUser.searchBar.index.SongsIndex;
+
+import java.util.function.IntPredicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Release year query of a song search (like "<1990" or ">2005"), parsed only once
+ *
+ * @param query      The query it was parsed from
+ * @param comparison The comparison with the year or {@code null} if the query isn't valid
+ * @param year       The year the release years are compared to
+ */
+record YearPredicate(String query, Comparison comparison, int year) {
+    private static final Pattern YEAR_PATTERN = Pattern.compile("([<>])(\\d+)");
+
+    /**
+     * Parses the first symbol (lesser or greater) followed by a year found in the query
+     *
+     * @param query The search string for the year
+     * @return The parsed query
+     */
+    static YearPredicate parse(final String query) {
+        Matcher matcher = YEAR_PATTERN.matcher(query);
+        if (!matcher.find()) {
+            return new YearPredicate(query, null, 0);
+        }
+        Comparison comparison = matcher.group(1).equals(Comparison.lesser.getSymbol())
+                ? Comparison.lesser : Comparison.greater;
+        return new YearPredicate(query, comparison, Integer.parseInt(matcher.group(2)));
+    }
+
+    /**
+     * Gets a test for the positions of the songs that match the query, answered by the
+     * release years kept in the songs index
+     *
+     * @param songsIndex The songs index
+     * @return The test
+     */
+    IntPredicate matcher(final SongsIndex songsIndex) {
+        if (comparison == null) {
+            return position -> false;
+        }
+        return switch (comparison) {
+            case lesser -> songsIndex.releasedBefore(year);
+            case greater -> songsIndex.releasedAfter(year);
+        };
+    }
+
+    /**
+     * Counts the songs that match the query, from their range in the sorted release years
+     *
+     * @param songsIndex The songs index
+     * @return The number of songs
+     */
+    int count(final SongsIndex songsIndex) {
+        return rangeEnd(songsIndex) - rangeStart(songsIndex);
+    }
+
+    /**
+     * Gets the positions of the songs that match the query, from their range in the sorted
+     * release years
+     *
+     * @param songsIndex The songs index
+     * @return The postings
+     */
+    int[] postings(final SongsIndex songsIndex) {
+        return songsIndex.getReleaseYearPostings(rangeStart(songsIndex), rangeEnd(songsIndex));
+    }
+
+    /**
+     * Finds where the songs that match the query start in the sorted release years
+     *
+     * @param songsIndex The songs index
+     * @return The start of the range
+     */
+    private int rangeStart(final SongsIndex songsIndex) {
+        if (comparison == Comparison.greater) {
+            return songsIndex.releasedAfterStart(year);
+        }
+        return 0;
+    }
+
+    /**
+     * Finds where the songs that match the query end in the sorted release years
+     *
+     * @param songsIndex The songs index
+     * @return The end of the range (exclusive)
+     */
+    private int rangeEnd(final SongsIndex songsIndex) {
+        if (comparison == null) {
+            return 0;
+        }
+        return switch (comparison) {
+            case lesser -> songsIndex.releasedBeforeEnd(year);
+            case greater -> songsIndex.countReleaseYears();
+        };
+    }
+
+    /**
+     * For comparisons between integers
+     */
+    enum Comparison {
+        greater(">"), lesser("<");
+        private final String symbol;
+
+        Comparison(final String symbol) {
+            this.symbol = symbol;
+        }
+
+        public String getSymbol() {
+            return symbol;
+        }
+    }
+}
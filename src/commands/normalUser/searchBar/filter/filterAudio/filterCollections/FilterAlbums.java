@@ -2,13 +2,13 @@ package commands.normalUser.searchBar.filter.filterAudio.filterCollections;
 
 import entities.audio.collections.Album;
 import commands.normalUser.searchBar.filter.Filters;
+import commands.normalUser.searchBar.index.AudioIndex;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 
 public final class FilterAlbums extends FilterCollections<Album> {
-    public FilterAlbums(final ArrayList<Album> albums) {
-        this.filteredObjects = new ArrayList<>(albums);
+    public FilterAlbums(final AudioIndex<Album> index) {
+        super(index);
         initAllFilterMethods();
     }
 
@@ -1,11 +1,32 @@
 package commands.normalUser.searchBar.filter.filterAudio.filterCollections;
 
+import commands.normalUser.searchBar.filter.FilterEstimate;
+import commands.normalUser.searchBar.filter.Filters;
+import commands.normalUser.searchBar.index.AudioIndex;
 import entities.audio.Audio;
 import entities.audio.collections.Collection;
 import commands.normalUser.searchBar.filter.filterAudio.FilterAudio;
 
+import java.util.List;
+
 public abstract class FilterCollections<E extends Collection<? extends Audio>>
         extends FilterAudio<Collection<? extends Audio>> {
+    protected FilterCollections(final List<E> collections) {
+        super(collections);
+    }
+
+    protected FilterCollections(final AudioIndex<E> index) {
+        super(index);
+    }
+
+    @Override
+    public FilterEstimate estimate(final Filters key, final Object value) {
+        if (index != null && key == Filters.owner) {
+            return lookup(index.getOwnerPostings((String) value));
+        }
+        return super.estimate(key, value);
+    }
+
     /**
      * Filters collections by their owner
      *
@@ -14,7 +35,11 @@ public abstract class FilterCollections<E extends Collection<? extends Audio>>
      */
     public final <T extends FilterCollections<E>> T byOwner(final Object ownerObj) {
         String owner = (String) ownerObj;
-        filteredObjects.removeIf(object -> !object.ownerIs(owner));
+        if (index != null) {
+            retainPostings(index.getOwnerPostings(owner));
+        } else {
+            retainIf(object -> object.ownerIs(owner));
+        }
         return (T) this;
     }
 }
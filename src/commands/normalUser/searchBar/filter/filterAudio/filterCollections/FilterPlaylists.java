@@ -5,13 +5,19 @@ import entities.audio.collections.Collection;
 import entities.audio.collections.Playlist;
 import commands.normalUser.searchBar.filter.Filters;
 import commands.normalUser.searchBar.filter.filterAudio.FilterAudio;
+import commands.normalUser.searchBar.index.AudioIndex;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 
 public class FilterPlaylists extends FilterCollections<Playlist> {
     public FilterPlaylists(final ArrayList<Playlist> playlists) {
-        this.filteredObjects = new ArrayList<>(playlists);
+        super(playlists);
+        initAllFilterMethods();
+    }
+
+    public FilterPlaylists(final AudioIndex<Playlist> index) {
+        super(index);
         initAllFilterMethods();
     }
 
@@ -32,9 +38,9 @@ public class FilterPlaylists extends FilterCollections<Playlist> {
      * @return the current instance
      */
     public FilterAudio<Collection<? extends Audio>> byVisibilityForUser(final Object username) {
-        filteredObjects.removeIf(playlistObject -> {
+        retainIf(playlistObject -> {
             Playlist playlist = (Playlist) playlistObject;
-            return playlist.isPrivate() && !playlist.getOwner().equals(username);
+            return !playlist.isPrivate() || playlist.getOwner().equals(username);
         });
         return this;
     }
@@ -45,7 +51,7 @@ public class FilterPlaylists extends FilterCollections<Playlist> {
      * @return the current instance
      */
     public FilterAudio<Collection<? extends Audio>> byVisibility() {
-        filteredObjects.removeIf(playlist -> ((Playlist) playlist).isPrivate());
+        retainIf(playlist -> !((Playlist) playlist).isPrivate());
         return this;
     }
 }
@@ -2,13 +2,13 @@ package commands.normalUser.searchBar.filter.filterAudio.filterCollections;
 
 import entities.audio.collections.Podcast;
 import commands.normalUser.searchBar.filter.Filters;
+import commands.normalUser.searchBar.index.AudioIndex;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 
 public class FilterPodcasts extends FilterCollections<Podcast> {
-    public FilterPodcasts(final ArrayList<Podcast> podcasts) {
-        this.filteredObjects = new ArrayList<>(podcasts);
+    public FilterPodcasts(final AudioIndex<Podcast> index) {
+        super(index);
         initAllFilterMethods();
     }
 
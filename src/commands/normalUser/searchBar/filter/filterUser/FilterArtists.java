@@ -6,7 +6,7 @@ import java.util.ArrayList;
 
 public class FilterArtists extends FilterUser<Artist> {
     public FilterArtists(final ArrayList<Artist> artists) {
-        this.filteredObjects = new ArrayList<>(artists);
+        super(artists);
         initAllFilterMethods();
     }
 }
@@ -6,7 +6,7 @@ import java.util.ArrayList;
 
 public class FilterHosts extends FilterUser<Host> {
     public FilterHosts(final ArrayList<Host> hosts) {
-        this.filteredObjects = new ArrayList<>(hosts);
+        super(hosts);
         initAllFilterMethods();
     }
 }
@@ -5,8 +5,13 @@ import commands.normalUser.searchBar.filter.Filters;
 import entities.user.User;
 
 import java.util.HashMap;
+import java.util.List;
 
 public class FilterUser<E extends User> extends Filter<User> {
+    protected FilterUser(final List<E> users) {
+        super(users);
+    }
+
     /**
      * Filters the users by their username
      *
@@ -19,7 +24,7 @@ public class FilterUser<E extends User> extends Filter<User> {
      */
     public <T extends FilterUser<E>> T byUsername(final Object nameObj) {
         String name = (String) nameObj;
-        filteredObjects.removeIf(object -> !object.usernameStartsWith(name));
+        retainIf(object -> object.usernameStartsWith(name));
         return (T) this;
     }
 
@@ -0,0 +1,179 @@
+package commands.normalUser.searchBar.index;
+
+import entities.audio.collections.Album;
+import entities.user.Artist;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+/**
+ * Search index over the albums library, with the albums in the order of their artists
+ * (and in the order of the library for the same artist; the albums of the artists that
+ * aren't in the artists library come last)
+ * An added album is inserted after the albums of its artist, so it's the only index in which
+ * the positions after the added item are moved
+ *
+ * @see libraries.audio.AlbumsLibrary#sortAlbumsByArtistOrder()
+ */
+public final class AlbumsIndex extends AudioIndex<Album> {
+    private static final int ORDER_BITS = 32;
+    private static final long UNKNOWN_ARTIST = Integer.MAX_VALUE;
+    /**
+     * The order of every artist in the artists library (artists added later come after)
+     */
+    private final HashMap<String, Integer> artistsOrder = new HashMap<>();
+    private int nextArtistOrder = 0;
+    /**
+     * The order of every album in the albums library (albums added later come after)
+     */
+    private final IdentityHashMap<Album, Integer> albumsOrder = new IdentityHashMap<>();
+    private int nextAlbumOrder = 0;
+    /**
+     * The sort key of the album at every position (kept for the removed albums too,
+     * so the keys stay sorted)
+     */
+    private final ArrayList<Long> keys = new ArrayList<>();
+
+    /**
+     * Builds the index over the specified albums
+     *
+     * @param albums  The albums, in the order of the albums library
+     * @param artists The artists, in the order of the artists library
+     */
+    public AlbumsIndex(final List<Album> albums, final List<Artist> artists) {
+        super(false);
+        artists.forEach(this::addArtist);
+        albums.forEach(album -> albumsOrder.put(album, nextAlbumOrder++));
+        ArrayList<Album> sortedAlbums = new ArrayList<>(albums);
+        sortedAlbums.sort(Comparator.comparingLong(this::keyOf));
+        for (Album album : sortedAlbums) {
+            keys.add(keyOf(album));
+            add(album);
+        }
+    }
+
+    /**
+     * Adds an album that was added to the albums library, after the albums of its artist
+     *
+     * @param album The album
+     */
+    public void addAlbum(final Album album) {
+        albumsOrder.put(album, nextAlbumOrder++);
+        insertInOrder(album);
+    }
+
+    /**
+     * Removes an album that was removed from the albums library
+     *
+     * @param album The album
+     */
+    public void removeAlbum(final Album album) {
+        int position = findPosition(album);
+        if (position >= 0) {
+            remove(position);
+            albumsOrder.remove(album);
+        }
+    }
+
+    /**
+     * Takes into account an artist that was added to the artists library
+     * (the albums of an artist that wasn't in the library are moved after the albums of
+     * the artists added before)
+     *
+     * @param artist The artist
+     */
+    public void addArtist(final Artist artist) {
+        if (artistsOrder.putIfAbsent(artist.getName(), nextArtistOrder) == null) {
+            nextArtistOrder++;
+            moveAlbumsOf(artist.getName());
+        }
+    }
+
+    /**
+     * Takes into account an artist that was removed from the artists library
+     * (their albums, if there are any left, are moved to the end)
+     *
+     * @param artist The artist
+     */
+    public void removeArtist(final Artist artist) {
+        if (artistsOrder.remove(artist.getName()) != null) {
+            moveAlbumsOf(artist.getName());
+        }
+    }
+
+    /**
+     * Inserts the albums of an artist again, after the order of the artist changed
+     *
+     * @param artistName The name of the artist
+     */
+    private void moveAlbumsOf(final String artistName) {
+        ArrayList<Album> moved = new ArrayList<>();
+        for (int position : getOwnerPostings(artistName)) {
+            moved.add(getItems().get(position));
+            remove(position);
+        }
+        moved.forEach(this::insertInOrder);
+    }
+
+    /**
+     * Inserts an album at the position given by its sort key
+     *
+     * @param album The album
+     */
+    private void insertInOrder(final Album album) {
+        long key = keyOf(album);
+        int position = upperBound(key);
+        keys.add(position, key);
+        insert(position, album);
+    }
+
+    /**
+     * Finds the first position with a sort key greater than the specified one
+     *
+     * @param key The sort key
+     * @return The position
+     */
+    private int upperBound(final long key) {
+        int low = 0;
+        int high = keys.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (keys.get(middle) <= key) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Finds the position of an album (looking only through the albums of its artist)
+     *
+     * @param album The album
+     * @return The position or {@code -1} if it isn't indexed
+     */
+    private int findPosition(final Album album) {
+        for (int position : getOwnerPostings(album.getOwner())) {
+            if (getItems().get(position) == album) {
+                return position;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Gets the sort key of an album: the order of its artist, then its order in the library
+     *
+     * @param album The album
+     * @return The key
+     */
+    private long keyOf(final Album album) {
+        long artistOrder = artistsOrder.containsKey(album.getOwner())
+                ? artistsOrder.get(album.getOwner()) : UNKNOWN_ARTIST;
+        return (artistOrder << ORDER_BITS) | albumsOrder.get(album);
+    }
+}
@@ -0,0 +1,217 @@
+package commands.normalUser.searchBar.index;
+
+import entities.audio.Audio;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Search index over the items of an audio library
+ * The positions in the postings are the positions of the items in the indexed list
+ * The index is kept up to date as the items are added and removed: an added item takes the
+ * next position and a removed one leaves its position empty, so the other positions stay valid
+ *
+ * @param <E> The class of the indexed items
+ */
+public class AudioIndex<E extends Audio> {
+    /**
+     * -- GETTER --
+     * Gets the indexed items by position, in the order of their library
+     * ({@code null} at the positions of the removed items)
+     */
+    @Getter
+    private final ArrayList<E> items = new ArrayList<>();
+    private final boolean ignoreCase;
+    private final PrefixTrie names = new PrefixTrie();
+    private final HashMap<String, Postings.Builder> owners = new HashMap<>();
+    /**
+     * The positions of the items that weren't removed
+     */
+    private final Postings.Builder positions = new Postings.Builder();
+
+    /**
+     * Builds the index over the specified items
+     *
+     * @param items      The items of the library
+     * @param ignoreCase Whether the names of the items are matched ignoring case
+     *                   (as {@code nameStartsWith} does for the indexed class)
+     */
+    public AudioIndex(final List<E> items, final boolean ignoreCase) {
+        this(ignoreCase);
+        items.forEach(this::add);
+    }
+
+    /**
+     * Builds an empty index (the subclasses add the items after their own keys are ready)
+     *
+     * @param ignoreCase Whether the names of the items are matched ignoring case
+     */
+    protected AudioIndex(final boolean ignoreCase) {
+        this.ignoreCase = ignoreCase;
+    }
+
+    /**
+     * Adds an item after all the indexed ones
+     *
+     * @param item The item to be added
+     */
+    public final void add(final E item) {
+        insert(items.size(), item);
+    }
+
+    /**
+     * Adds an item at the specified position, moving the items from that position further
+     *
+     * @param position The position of the item
+     * @param item     The item to be added
+     */
+    protected final void insert(final int position, final E item) {
+        if (position < items.size()) {
+            shiftPositions(position);
+        }
+        items.add(position, item);
+        positions.add(position);
+        names.add(normalizeName(item.getName()), position);
+        owners.computeIfAbsent(item.getOwner(), owner -> new Postings.Builder()).add(position);
+        indexItem(item, position);
+    }
+
+    /**
+     * Removes the item at the specified position, leaving the position empty
+     *
+     * @param position The position of the item
+     */
+    public final void remove(final int position) {
+        E item = items.set(position, null);
+        positions.remove(position);
+        names.remove(normalizeName(item.getName()), position);
+        removePosition(owners, item.getOwner(), position);
+        unindexItem(item, position);
+    }
+
+    /**
+     * Gets the position of an item from its place among the indexed items
+     * (the same as its index in the library, for the indexes kept in the library order)
+     *
+     * @param index The index of the item, without counting the removed ones
+     * @return The position
+     */
+    public final int positionOf(final int index) {
+        return positions.get(index);
+    }
+
+    /**
+     * Counts the indexed items (without the removed ones)
+     *
+     * @return The number of items
+     */
+    public final int size() {
+        return positions.size();
+    }
+
+    /**
+     * Gets the positions of the items whose names start with the specified prefix
+     *
+     * @param prefix The prefix we search for
+     * @return The postings
+     */
+    public final int[] getNamePostings(final String prefix) {
+        return names.find(normalizeName(prefix));
+    }
+
+    /**
+     * Gets the positions of the items owned by the specified user
+     *
+     * @param owner The name of the owner
+     * @return The postings
+     */
+    public final int[] getOwnerPostings(final String owner) {
+        return getPostings(owners, owner);
+    }
+
+    /**
+     * Gets the positions of all the indexed items (without the removed ones)
+     *
+     * @return The postings
+     */
+    public final int[] getAllPostings() {
+        return positions.build();
+    }
+
+    /**
+     * Indexes the keys of an added item that aren't kept by this class
+     *
+     * @param item     The added item
+     * @param position The position of the item
+     */
+    protected void indexItem(final E item, final int position) {
+    }
+
+    /**
+     * Removes the keys of a removed item that aren't kept by this class
+     *
+     * @param item     The removed item
+     * @param position The position the item had
+     */
+    protected void unindexItem(final E item, final int position) {
+    }
+
+    /**
+     * Moves the positions starting from the specified one a position further,
+     * before an item is inserted at that position
+     *
+     * @param from The first position that's moved
+     */
+    protected void shiftPositions(final int from) {
+        names.shift(from);
+        owners.values().forEach(owned -> owned.shift(from));
+        positions.shift(from);
+    }
+
+    /**
+     * Gets the postings of a key
+     *
+     * @param positions The positions of every key
+     * @param key       The key
+     * @param <K>       The class of the keys
+     * @return The postings
+     */
+    protected static <K> int[] getPostings(final Map<K, Postings.Builder> positions,
+                                           final K key) {
+        Postings.Builder keyPositions = positions.get(key);
+        return keyPositions == null ? Postings.EMPTY : keyPositions.build();
+    }
+
+    /**
+     * Removes a position from the positions of a key, dropping the key if it's left empty
+     *
+     * @param positions The positions of every key
+     * @param key       The key
+     * @param position  The position to be removed
+     * @param <K>       The class of the keys
+     */
+    protected static <K> void removePosition(final Map<K, Postings.Builder> positions,
+                                             final K key, final int position) {
+        Postings.Builder keyPositions = positions.get(key);
+        if (keyPositions == null) {
+            return;
+        }
+        keyPositions.remove(position);
+        if (keyPositions.size() == 0) {
+            positions.remove(key);
+        }
+    }
+
+    /**
+     * Brings a name to the form in which it's kept in the names trie
+     *
+     * @param name The name
+     * @return The normalized name
+     */
+    private String normalizeName(final String name) {
+        return ignoreCase ? name.toLowerCase() : name;
+    }
+}
@@ -0,0 +1,161 @@
+package commands.normalUser.searchBar.index;
+
+import entities.audio.Song;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.IntPredicate;
+
+/**
+ * Index over the lyrics of the songs, used to search lyrics by substring ignoring case
+ * It keeps the lowercase lyrics of every song and the postings of every trigram found
+ * in them, so a search verifies only the songs that contain all the searched trigrams
+ * Like the songs index, it's updated as the songs are added and removed
+ */
+public final class LyricsIndex {
+    private static final int GRAM_LENGTH = 3;
+    private static final int CHAR_BITS = 16;
+    /**
+     * The lowercase lyrics of the song at every position
+     * ({@code null} at the positions of the removed songs)
+     */
+    private final ArrayList<String> lowerCaseLyrics = new ArrayList<>();
+    private final HashMap<Long, Postings.Builder> trigrams = new HashMap<>();
+
+    /**
+     * Builds the index over the lyrics of the specified songs
+     *
+     * @param songs The songs by position ({@code null} at the positions of the removed ones)
+     */
+    public LyricsIndex(final List<Song> songs) {
+        for (int position = 0; position < songs.size(); position++) {
+            add(position, songs.get(position));
+        }
+    }
+
+    /**
+     * Adds the lyrics of a song at the specified position
+     * (the positions from it must have been moved further before)
+     *
+     * @param position The position of the song
+     * @param song     The song or {@code null} for the position of a removed song
+     */
+    public void add(final int position, final Song song) {
+        String lyrics = song == null || song.getLyrics() == null
+                ? null : song.getLyrics().toLowerCase();
+        lowerCaseLyrics.add(position, lyrics);
+        if (lyrics == null) {
+            return;
+        }
+        for (long trigram : trigramsOf(lyrics)) {
+            trigrams.computeIfAbsent(trigram, key -> new Postings.Builder()).add(position);
+        }
+    }
+
+    /**
+     * Removes the lyrics of the song at the specified position, leaving the position empty
+     *
+     * @param position The position of the song
+     */
+    public void remove(final int position) {
+        String lyrics = lowerCaseLyrics.set(position, null);
+        if (lyrics == null) {
+            return;
+        }
+        for (long trigram : trigramsOf(lyrics)) {
+            AudioIndex.removePosition(trigrams, trigram, position);
+        }
+    }
+
+    /**
+     * Moves the positions starting from the specified one a position further,
+     * before a song is added at that position
+     *
+     * @param from The first position that's moved
+     */
+    public void shift(final int from) {
+        trigrams.values().forEach(positions -> positions.shift(from));
+    }
+
+    /**
+     * Gets the positions of the songs that may contain the specified lyrics
+     * (all the songs that contain the lyrics are found among them)
+     *
+     * @param lyrics The lyrics we search for
+     * @return The postings or {@code null} if the lyrics are too short to be looked up
+     */
+    public int[] getCandidates(final String lyrics) {
+        String lyricsToLower = lyrics.toLowerCase();
+        if (lyricsToLower.length() < GRAM_LENGTH) {
+            return null;
+        }
+        ArrayList<int[]> postings = new ArrayList<>();
+        for (long trigram : trigramsOf(lyricsToLower)) {
+            Postings.Builder trigramPositions = trigrams.get(trigram);
+            if (trigramPositions == null) {
+                return Postings.EMPTY;
+            }
+            postings.add(trigramPositions.build());
+        }
+        postings.sort(Comparator.comparingInt(trigramPostings -> trigramPostings.length));
+        int[] candidates = postings.get(0);
+        for (int i = 1; i < postings.size() && candidates.length > 0; i++) {
+            candidates = Postings.intersect(candidates, postings.get(i));
+        }
+        return candidates;
+    }
+
+    /**
+     * Estimates the number of songs that contain the specified lyrics, as the size of
+     * the smallest postings among the searched trigrams
+     *
+     * @param lyrics The lyrics we search for
+     * @return The estimated number of songs
+     */
+    public int estimateMatches(final String lyrics) {
+        String lyricsToLower = lyrics.toLowerCase();
+        int matches = lowerCaseLyrics.size();
+        if (lyricsToLower.length() < GRAM_LENGTH) {
+            return matches;
+        }
+        for (long trigram : trigramsOf(lyricsToLower)) {
+            Postings.Builder trigramPositions = trigrams.get(trigram);
+            matches = Math.min(matches, trigramPositions == null ? 0 : trigramPositions.size());
+        }
+        return matches;
+    }
+
+    /**
+     * Gets a test for the positions of the songs that contain the specified lyrics
+     * (the same check as {@code Song.containsLyrics}, without lowering the song's lyrics again)
+     *
+     * @param lyrics The lyrics we search for
+     * @return The test
+     * @see Song#containsLyrics(String)
+     */
+    public IntPredicate matcher(final String lyrics) {
+        String lyricsToLower = lyrics.toLowerCase();
+        return position -> lowerCaseLyrics.get(position).contains(lyricsToLower);
+    }
+
+    /**
+     * Gets the distinct trigrams in the specified text, each one packed in a {@code long}
+     *
+     * @param text The text
+     * @return The trigrams
+     */
+    private static long[] trigramsOf(final String text) {
+        HashSet<Long> found = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            long trigram = 0;
+            for (int j = i; j < i + GRAM_LENGTH; j++) {
+                trigram = (trigram << CHAR_BITS) | text.charAt(j);
+            }
+            found.add(trigram);
+        }
+        return found.stream().mapToLong(Long::longValue).toArray();
+    }
+}
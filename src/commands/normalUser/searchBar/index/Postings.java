@@ -0,0 +1,138 @@
+package commands.normalUser.searchBar.index;
+
+import java.util.Arrays;
+
+/**
+ * Helpers for postings: arrays with the positions (in the order of the library)
+ * of the items that match a search term
+ * The positions in a postings array are always sorted in ascending order and the arrays
+ * handed out by an index must never be modified (an index builds new ones after it changes)
+ */
+public final class Postings {
+    public static final int[] EMPTY = new int[0];
+
+    private Postings() {
+    }
+
+    /**
+     * Intersects two postings, keeping the library order
+     *
+     * @param first  The first postings
+     * @param second The second postings
+     * @return The positions found in both postings
+     */
+    public static int[] intersect(final int[] first, final int[] second) {
+        int[] result = new int[Math.min(first.length, second.length)];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < first.length && j < second.length) {
+            if (first[i] < second[j]) {
+                i++;
+            } else if (first[i] > second[j]) {
+                j++;
+            } else {
+                result[size++] = first[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    /**
+     * Keeps the positions of a search term sorted while the indexed items are added and
+     * removed, and builds the postings for them only after they changed
+     */
+    public static final class Builder {
+        private static final int INITIAL_CAPACITY = 4;
+        private int[] positions = new int[INITIAL_CAPACITY];
+        private int size = 0;
+        private int[] postings = null;
+
+        /**
+         * Adds a position, keeping the positions sorted
+         * (it's only appended when it's greater than the ones already added)
+         *
+         * @param position The position to be added
+         */
+        public void add(final int position) {
+            int index = size;
+            if (size > 0 && positions[size - 1] >= position) {
+                index = Arrays.binarySearch(positions, 0, size, position);
+                if (index >= 0) {
+                    return;
+                }
+                index = -index - 1;
+            }
+            if (size == positions.length) {
+                positions = Arrays.copyOf(positions, size * 2);
+            }
+            System.arraycopy(positions, index, positions, index + 1, size - index);
+            positions[index] = position;
+            size++;
+            postings = null;
+        }
+
+        /**
+         * Removes a position, if it was added
+         *
+         * @param position The position to be removed
+         */
+        public void remove(final int position) {
+            int index = Arrays.binarySearch(positions, 0, size, position);
+            if (index < 0) {
+                return;
+            }
+            System.arraycopy(positions, index + 1, positions, index, size - index - 1);
+            size--;
+            postings = null;
+        }
+
+        /**
+         * Moves the positions starting from the specified one a position further,
+         * to make room for an item inserted at that position
+         *
+         * @param from The first position that's moved
+         */
+        public void shift(final int from) {
+            int index = Arrays.binarySearch(positions, 0, size, from);
+            for (int i = index < 0 ? -index - 1 : index; i < size; i++) {
+                positions[i]++;
+            }
+            postings = null;
+        }
+
+        /**
+         * Gets the position with the specified rank
+         *
+         * @param index The rank of the position (0 for the smallest one)
+         * @return The position
+         */
+        public int get(final int index) {
+            return positions[index];
+        }
+
+        /**
+         * Gets the number of positions added
+         *
+         * @return the size
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Gets the postings with the positions added so far
+         * (they're built again only if the positions changed since the last call)
+         *
+         * @return The postings
+         */
+        public int[] build() {
+            if (postings == null) {
+                postings = Arrays.copyOf(positions, size);
+            }
+            return postings;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package commands.normalUser.searchBar.index;
+
+import java.util.HashMap;
+
+/**
+ * Trie over the names of the items in a library
+ * Every node keeps the positions of the names that pass through it, so all the names
+ * that start with a prefix are found by walking the prefix only
+ */
+public final class PrefixTrie {
+    private final Node root = new Node();
+
+    /**
+     * Adds a name to the trie
+     *
+     * @param name     The name to be added
+     * @param position The position of the item with that name
+     */
+    public void add(final String name, final int position) {
+        Node node = root;
+        node.positions.add(position);
+        for (int i = 0; i < name.length(); i++) {
+            node = node.children.computeIfAbsent(name.charAt(i), character -> new Node());
+            node.positions.add(position);
+        }
+    }
+
+    /**
+     * Removes a name from the trie
+     * The nodes left without positions are dropped (all the nodes under them are empty too)
+     *
+     * @param name     The name to be removed
+     * @param position The position of the item with that name
+     */
+    public void remove(final String name, final int position) {
+        Node node = root;
+        node.positions.remove(position);
+        for (int i = 0; i < name.length(); i++) {
+            Node child = node.children.get(name.charAt(i));
+            if (child == null) {
+                return;
+            }
+            child.positions.remove(position);
+            if (child.positions.size() == 0) {
+                node.children.remove(name.charAt(i));
+                return;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Moves the positions starting from the specified one a position further,
+     * to make room for an item inserted at that position
+     *
+     * @param from The first position that's moved
+     */
+    public void shift(final int from) {
+        root.shift(from);
+    }
+
+    /**
+     * Gets the positions of the names that start with the specified prefix
+     *
+     * @param prefix The prefix we search for
+     * @return The postings of the matching names
+     */
+    public int[] find(final String prefix) {
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.children.get(prefix.charAt(i));
+        }
+        return node == null ? Postings.EMPTY : node.positions.build();
+    }
+
+    private static final class Node {
+        private final HashMap<Character, Node> children = new HashMap<>();
+        private final Postings.Builder positions = new Postings.Builder();
+
+        /**
+         * Moves the positions of this node and of its children
+         *
+         * @param from The first position that's moved
+         */
+        private void shift(final int from) {
+            positions.shift(from);
+            for (Node child : children.values()) {
+                child.shift(from);
+            }
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package commands.normalUser.searchBar.index;
+
+import entities.audio.Song;
+import entities.audio.collections.Album;
+import entities.audio.collections.Playlist;
+import entities.audio.collections.Podcast;
+import entities.user.Artist;
+import libraries.audio.AlbumsLibrary;
+import libraries.audio.PlaylistsLibrary;
+import libraries.audio.PodcastsLibrary;
+import libraries.audio.SongsLibrary;
+import libraries.users.ArtistsLibrary;
+
+/**
+ * Keeps the search indexes for the audio libraries
+ * An index is built the first time it's needed and then kept up to date by the libraries,
+ * which report every added and removed item; it's built again only after the items of
+ * its library are set
+ */
+public final class SearchIndexes {
+    private static SearchIndexes instance = null;
+    private SongsIndex songsIndex = null;
+    private AudioIndex<Podcast> podcastsIndex = null;
+    private AudioIndex<Playlist> playlistsIndex = null;
+    private AlbumsIndex albumsIndex = null;
+
+    private SearchIndexes() {
+    }
+
+    /**
+     * Gets the instance for the search indexes class (singleton pattern)
+     * Initialize it if needed
+     *
+     * @return The instance
+     */
+    public static synchronized SearchIndexes getInstance() {
+        if (instance == null) {
+            instance = new SearchIndexes();
+        }
+        return instance;
+    }
+
+    /**
+     * Gets the index over the songs library
+     *
+     * @return The songs index
+     */
+    public SongsIndex getSongsIndex() {
+        if (songsIndex == null) {
+            songsIndex = new SongsIndex(SongsLibrary.getInstance().getItems());
+        }
+        return songsIndex;
+    }
+
+    /**
+     * Gets the index over the podcasts library
+     *
+     * @return The podcasts index
+     */
+    public AudioIndex<Podcast> getPodcastsIndex() {
+        if (podcastsIndex == null) {
+            podcastsIndex = new AudioIndex<>(PodcastsLibrary.getInstance().getItems(), false);
+        }
+        return podcastsIndex;
+    }
+
+    /**
+     * Gets the index over the playlists library
+     *
+     * @return The playlists index
+     */
+    public AudioIndex<Playlist> getPlaylistsIndex() {
+        if (playlistsIndex == null) {
+            playlistsIndex = new AudioIndex<>(PlaylistsLibrary.getInstance().getItems(), false);
+        }
+        return playlistsIndex;
+    }
+
+    /**
+     * Gets the index over the albums library, with the albums in the order of their artists
+     *
+     * @return The albums index
+     */
+    public AudioIndex<Album> getAlbumsIndex() {
+        if (albumsIndex == null) {
+            albumsIndex = new AlbumsIndex(AlbumsLibrary.getInstance().getItems(),
+                    ArtistsLibrary.getInstance().getItems());
+        }
+        return albumsIndex;
+    }
+
+    /**
+     * Indexes a song added to the songs library
+     *
+     * @param song The song
+     */
+    public void songAdded(final Song song) {
+        if (songsIndex != null) {
+            songsIndex.add(song);
+        }
+    }
+
+    /**
+     * Removes a song removed from the songs library from its index
+     *
+     * @param index The index the song had in the library
+     */
+    public void songRemoved(final int index) {
+        if (songsIndex != null) {
+            songsIndex.remove(songsIndex.positionOf(index));
+        }
+    }
+
+    /**
+     * Indexes a podcast added to the podcasts library
+     *
+     * @param podcast The podcast
+     */
+    public void podcastAdded(final Podcast podcast) {
+        if (podcastsIndex != null) {
+            podcastsIndex.add(podcast);
+        }
+    }
+
+    /**
+     * Removes a podcast removed from the podcasts library from its index
+     *
+     * @param index The index the podcast had in the library
+     */
+    public void podcastRemoved(final int index) {
+        if (podcastsIndex != null) {
+            podcastsIndex.remove(podcastsIndex.positionOf(index));
+        }
+    }
+
+    /**
+     * Indexes a playlist added to the playlists library
+     *
+     * @param playlist The playlist
+     */
+    public void playlistAdded(final Playlist playlist) {
+        if (playlistsIndex != null) {
+            playlistsIndex.add(playlist);
+        }
+    }
+
+    /**
+     * Removes a playlist removed from the playlists library from its index
+     *
+     * @param index The index the playlist had in the library
+     */
+    public void playlistRemoved(final int index) {
+        if (playlistsIndex != null) {
+            playlistsIndex.remove(playlistsIndex.positionOf(index));
+        }
+    }
+
+    /**
+     * Indexes an album added to the albums library
+     *
+     * @param album The album
+     */
+    public void albumAdded(final Album album) {
+        if (albumsIndex != null) {
+            albumsIndex.addAlbum(album);
+        }
+    }
+
+    /**
+     * Removes an album removed from the albums library from its index
+     *
+     * @param album The album
+     */
+    public void albumRemoved(final Album album) {
+        if (albumsIndex != null) {
+            albumsIndex.removeAlbum(album);
+        }
+    }
+
+    /**
+     * Takes into account an artist added to the artists library (it orders the albums)
+     *
+     * @param artist The artist
+     */
+    public void artistAdded(final Artist artist) {
+        if (albumsIndex != null) {
+            albumsIndex.addArtist(artist);
+        }
+    }
+
+    /**
+     * Takes into account an artist removed from the artists library
+     *
+     * @param artist The artist
+     */
+    public void artistRemoved(final Artist artist) {
+        if (albumsIndex != null) {
+            albumsIndex.removeArtist(artist);
+        }
+    }
+
+    /**
+     * Drops the songs index after the items of the songs library were set
+     */
+    public void songsReset() {
+        songsIndex = null;
+    }
+
+    /**
+     * Drops the podcasts index after the items of the podcasts library were set
+     */
+    public void podcastsReset() {
+        podcastsIndex = null;
+    }
+
+    /**
+     * Drops the playlists index after the items of the playlists library were set
+     */
+    public void playlistsReset() {
+        playlistsIndex = null;
+    }
+
+    /**
+     * Drops the albums index after the items of the albums or the artists library were set
+     */
+    public void albumsReset() {
+        albumsIndex = null;
+    }
+}
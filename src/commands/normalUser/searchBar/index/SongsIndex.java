@@ -0,0 +1,321 @@
+package commands.normalUser.searchBar.index;
+
+import entities.audio.Song;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.function.IntPredicate;
+
+/**
+ * Search index over the songs library
+ * Besides the names and the artists, it indexes the genres, the albums and the tags
+ * (as postings), the release years (by position, and sorted, so the songs released before
+ * or after a year are a contiguous range) and the lyrics (only after they're first searched)
+ */
+public final class SongsIndex extends AudioIndex<Song> {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int NO_YEAR = Integer.MIN_VALUE;
+    private static final int YEAR_SHIFT = 32;
+    private final HashMap<String, Postings.Builder> genres = new HashMap<>();
+    private final HashMap<String, Postings.Builder> albums = new HashMap<>();
+    private final HashMap<String, Postings.Builder> tags = new HashMap<>();
+    /**
+     * The release year of the song at every position ({@code NO_YEAR} if it doesn't have one)
+     */
+    private int[] releaseYears = new int[INITIAL_CAPACITY];
+    /**
+     * The release year and the position of every song that has a year, as
+     * {@code year << 32 | position}, sorted by the year and then by the position
+     */
+    private long[] sortedYears = new long[INITIAL_CAPACITY];
+    private int yearsCount = 0;
+    /**
+     * The index over the lyrics ({@code null} until the lyrics are first searched)
+     */
+    private LyricsIndex lyricsIndex = null;
+
+    /**
+     * Builds the index over the specified songs
+     *
+     * @param songs The songs of the library
+     */
+    public SongsIndex(final List<Song> songs) {
+        super(true);
+        songs.forEach(this::add);
+    }
+
+    @Override
+    protected void indexItem(final Song song, final int position) {
+        genres.computeIfAbsent(foldCase(song.getGenre()), genre -> new Postings.Builder())
+                .add(position);
+        albums.computeIfAbsent(song.getAlbum(), album -> new Postings.Builder()).add(position);
+        if (song.getTags() != null) {
+            for (String tag : song.getTags()) {
+                tags.computeIfAbsent(tag, key -> new Postings.Builder()).add(position);
+            }
+        }
+        if (position >= releaseYears.length) {
+            releaseYears = Arrays.copyOf(releaseYears, Math.max(position + 1,
+                    releaseYears.length * 2));
+        }
+        if (song.getReleaseYear() != null) {
+            releaseYears[position] = song.getReleaseYear();
+            addYear(yearKey(song.getReleaseYear(), position));
+        } else {
+            releaseYears[position] = NO_YEAR;
+        }
+        if (lyricsIndex != null) {
+            lyricsIndex.add(position, song);
+        }
+    }
+
+    @Override
+    protected void unindexItem(final Song song, final int position) {
+        removePosition(genres, foldCase(song.getGenre()), position);
+        removePosition(albums, song.getAlbum(), position);
+        if (song.getTags() != null) {
+            for (String tag : song.getTags()) {
+                removePosition(tags, tag, position);
+            }
+        }
+        if (song.getReleaseYear() != null) {
+            removeYear(yearKey(song.getReleaseYear(), position));
+        }
+        releaseYears[position] = NO_YEAR;
+        if (lyricsIndex != null) {
+            lyricsIndex.remove(position);
+        }
+    }
+
+    @Override
+    protected void shiftPositions(final int from) {
+        super.shiftPositions(from);
+        genres.values().forEach(positions -> positions.shift(from));
+        albums.values().forEach(positions -> positions.shift(from));
+        tags.values().forEach(positions -> positions.shift(from));
+        int last = getItems().size();
+        if (last >= releaseYears.length) {
+            releaseYears = Arrays.copyOf(releaseYears, releaseYears.length * 2);
+        }
+        System.arraycopy(releaseYears, from, releaseYears, from + 1, last - from);
+        for (int i = 0; i < yearsCount; i++) {
+            if ((int) sortedYears[i] >= from) {
+                sortedYears[i]++;
+            }
+        }
+        if (lyricsIndex != null) {
+            lyricsIndex.shift(from);
+        }
+    }
+
+    /**
+     * Gets the index over the lyrics of the songs, building it the first time it's needed
+     *
+     * @return The lyrics index
+     */
+    public LyricsIndex getLyricsIndex() {
+        if (lyricsIndex == null) {
+            lyricsIndex = new LyricsIndex(getItems());
+        }
+        return lyricsIndex;
+    }
+
+    /**
+     * Gets the positions of the songs that are part of the specified genre (ignoring case)
+     *
+     * @param genre The genre
+     * @return The postings
+     */
+    public int[] getGenrePostings(final String genre) {
+        return getPostings(genres, foldCase(genre));
+    }
+
+    /**
+     * Gets the positions of the songs created by the specified artist
+     *
+     * @param artist The name of the artist
+     * @return The postings
+     */
+    public int[] getArtistPostings(final String artist) {
+        return getOwnerPostings(artist);
+    }
+
+    /**
+     * Gets the positions of the songs that are part of the specified album
+     *
+     * @param album The name of the album
+     * @return The postings
+     */
+    public int[] getAlbumPostings(final String album) {
+        return getPostings(albums, album);
+    }
+
+    /**
+     * Gets the positions of the songs that have the specified tag
+     * (the songs that have all the searched tags are found in the postings of every tag)
+     *
+     * @param tag The tag we search for
+     * @return The postings
+     */
+    public int[] getTagPostings(final String tag) {
+        return getPostings(tags, tag);
+    }
+
+    /**
+     * Counts the songs that have the most common of the specified tags
+     * (an upper bound for the number of songs that have all of them)
+     *
+     * @param searchedTags The tags we search for
+     * @return The number of songs
+     */
+    public int estimateTagsMatches(final List<String> searchedTags) {
+        int matches = size();
+        for (String tag : searchedTags) {
+            matches = Math.min(matches, getTagPostings(tag).length);
+        }
+        return matches;
+    }
+
+    /**
+     * Finds the range of the sorted years with the songs released before the specified year
+     *
+     * @param year The year
+     * @return The end of the range (it starts with the first sorted year)
+     */
+    public int releasedBeforeEnd(final int year) {
+        return lowerBound(yearKey(year, 0));
+    }
+
+    /**
+     * Finds the range of the sorted years with the songs released after the specified year
+     *
+     * @param year The year
+     * @return The start of the range (it ends with the last sorted year)
+     */
+    public int releasedAfterStart(final int year) {
+        return year == Integer.MAX_VALUE ? yearsCount : lowerBound(yearKey(year + 1, 0));
+    }
+
+    /**
+     * Counts the songs that have a release year
+     *
+     * @return The number of songs (the end of the sorted years)
+     */
+    public int countReleaseYears() {
+        return yearsCount;
+    }
+
+    /**
+     * Gets the positions of the songs in a range of the sorted years
+     *
+     * @param from The start of the range
+     * @param to   The end of the range (exclusive)
+     * @return The postings
+     */
+    public int[] getReleaseYearPostings(final int from, final int to) {
+        int[] postings = new int[to - from];
+        for (int i = from; i < to; i++) {
+            postings[i - from] = (int) sortedYears[i];
+        }
+        Arrays.sort(postings);
+        return postings;
+    }
+
+    /**
+     * Gets a test for the positions of the songs released before the specified year
+     * (the release years are read by position, so nothing is collected for the query)
+     *
+     * @param year The year
+     * @return The test
+     */
+    public IntPredicate releasedBefore(final int year) {
+        return position -> releaseYears[position] != NO_YEAR && releaseYears[position] < year;
+    }
+
+    /**
+     * Gets a test for the positions of the songs released after the specified year
+     *
+     * @param year The year
+     * @return The test
+     */
+    public IntPredicate releasedAfter(final int year) {
+        return position -> releaseYears[position] > year;
+    }
+
+    /**
+     * Gets the key of a song in the sorted years
+     *
+     * @param year     The release year of the song
+     * @param position The position of the song
+     * @return The key
+     */
+    private static long yearKey(final int year, final int position) {
+        return (long) year << YEAR_SHIFT | position;
+    }
+
+    /**
+     * Adds the key of a song to the sorted years
+     *
+     * @param key The key
+     */
+    private void addYear(final long key) {
+        if (yearsCount == sortedYears.length) {
+            sortedYears = Arrays.copyOf(sortedYears, yearsCount * 2);
+        }
+        int index = lowerBound(key);
+        System.arraycopy(sortedYears, index, sortedYears, index + 1, yearsCount - index);
+        sortedYears[index] = key;
+        yearsCount++;
+    }
+
+    /**
+     * Removes the key of a song from the sorted years
+     *
+     * @param key The key
+     */
+    private void removeYear(final long key) {
+        int index = lowerBound(key);
+        System.arraycopy(sortedYears, index + 1, sortedYears, index, yearsCount - index - 1);
+        yearsCount--;
+    }
+
+    /**
+     * Finds the first index in the sorted years with a key that's not less than the
+     * specified one
+     *
+     * @param key The key
+     * @return The index
+     */
+    private int lowerBound(final long key) {
+        int low = 0;
+        int high = yearsCount;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sortedYears[middle] < key) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Brings a string to a form in which two strings are equal only if they are
+     * equal ignoring case (the same comparison as {@code String.equalsIgnoreCase})
+     *
+     * @param value The string
+     * @return The case folded string
+     */
+    public static String foldCase(final String value) {
+        if (value == null) {
+            return null;
+        }
+        char[] characters = value.toCharArray();
+        for (int i = 0; i < characters.length; i++) {
+            characters[i] = Character.toLowerCase(Character.toUpperCase(characters[i]));
+        }
+        return new String(characters);
+    }
+}
@@ -20,20 +20,28 @@ public final class SearchUser extends Search<User> {
     }
 
     @Override
-    protected void initSearchTypeFilter() {
+    protected void initSearchTypeFilter(final SearchType searchType) {
         if (searchTypeFilter == null) {
             searchTypeFilter = new HashMap<>();
         }
-        ArrayList<Artist> artists = ArtistsLibrary.getInstance().getItems();
-        if (artists != null) {
-            putFilter(SearchType.artist, new FilterArtists(artists));
-        }
-        ArrayList<Host> hosts = HostsLibrary.getInstance().getItems();
-        if (hosts != null) {
-            putFilter(SearchType.host, new FilterHosts(HostsLibrary.getInstance().getItems()));
+        if (searchType == SearchType.artist) {
+            ArrayList<Artist> artists = ArtistsLibrary.getInstance().getItems();
+            if (artists != null) {
+                putFilter(searchType, new FilterArtists(artists));
+            }
+        } else if (searchType == SearchType.host) {
+            ArrayList<Host> hosts = HostsLibrary.getInstance().getItems();
+            if (hosts != null) {
+                putFilter(searchType, new FilterHosts(hosts));
+            }
         }
     }
 
+    @Override
+    protected Class<User> getSearchedClass() {
+        return User.class;
+    }
+
     @Override
     public void addResults() {
         for (User user : filteredObjects) {
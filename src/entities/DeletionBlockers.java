@@ -0,0 +1,54 @@
+package entities;
+
+/**
+ * Counts the items held by an owner that keep it from being deleted (the songs that are
+ * loaded or part of a playlist, the collections that are loaded)
+ * Every held item reports when it starts or stops blocking the deletion, so checking if the
+ * owner is deletable doesn't go through its items
+ */
+public final class DeletionBlockers {
+    private int count = 0;
+
+    /**
+     * Counts an item that starts being held
+     *
+     * @param blocking If the item blocks the deletion
+     */
+    public void hold(final boolean blocking) {
+        if (blocking) {
+            count++;
+        }
+    }
+
+    /**
+     * Stops counting an item that's no longer held
+     *
+     * @param blocking If the item blocks the deletion
+     */
+    public void release(final boolean blocking) {
+        if (blocking) {
+            count--;
+        }
+    }
+
+    /**
+     * Updates the count after the state of a held item changed
+     *
+     * @param wasBlocking If the item blocked the deletion before the change
+     * @param blocking    If the item blocks the deletion now
+     */
+    public void changed(final boolean wasBlocking, final boolean blocking) {
+        if (wasBlocking != blocking) {
+            count += blocking ? 1 : -1;
+        }
+    }
+
+    /**
+     * Checks if none of the held items blocks the deletion
+     *
+     * @return {@code true} if no item blocks it, {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return count == 0;
+    }
+}
@@ -1,7 +1,6 @@
 package entities.audio;
 
 import entities.Entity;
-import statistics.listenTrackers.ListenTrackerNormalUser;
 
 /**
  * Interface for an entities.audio file
@@ -33,22 +32,19 @@ public interface Audio extends Cloneable, Entity {
     <E extends Audio> E copyObject();
 
     /**
-     * Adds a listen for the current entities.audio file in the specified listen tracker
-     * (owned by a entities.user)
+     * Gets the ID of the audio file in the listen event log
      *
-     * @param listenTracker The entities.user's listen tracker
+     * @return The ID (negative if it wasn't listened yet)
+     * @see statistics.listenTrackers.ListenEventLog
      */
-    default void addListen(ListenTrackerNormalUser listenTracker) {
-    }
+    int getListenId();
 
     /**
-     * Adds the specified number of listens for the current entities.audio file
-     * in the specified listen tracker (owned by a normal entities.user)
+     * Sets the ID of the audio file in the listen event log
      *
-     * @param listenTracker The entities.user's listen tracker
+     * @param listenId The ID
      */
-    default void addListen(ListenTrackerNormalUser listenTracker, int count) {
-    }
+    void setListenId(int listenId);
 
     /**
      * Gets the name of the owner for the entities.audio file
@@ -1,13 +1,13 @@
 package entities.audio;
 
 import fileio.input.EpisodeInput;
-import statistics.listenTrackers.ListenTrackerNormalUser;
 
 /**
  * Implementation for an episode object
  */
 public final class Episode implements Audio {
     private final EpisodeInput episodeInput;
+    private int listenId = -1;
 
     public Episode(final EpisodeInput episodeInput) {
         this.episodeInput = episodeInput;
@@ -50,8 +50,13 @@ public final class Episode implements Audio {
     }
 
     @Override
-    public void addListen(final ListenTrackerNormalUser listenTracker) {
-        listenTracker.addListen(this);
+    public int getListenId() {
+        return listenId;
+    }
+
+    @Override
+    public void setListenId(final int listenId) {
+        this.listenId = listenId;
     }
 
     @Override
@@ -1,12 +1,15 @@
 package entities.audio;
 
+import entities.DeletionBlockers;
+import entities.user.Artist;
 import entities.user.NormalUser;
 import fileio.input.SongInput;
+import libraries.audio.SongsLibrary;
+import libraries.users.ArtistsLibrary;
 import lombok.Getter;
-import statistics.listenTrackers.ListenTrackerNormalUser;
+import recommendation.RecommendationCandidates;
 
 import java.util.ArrayList;
-import java.util.Iterator;
 
 /**
  * Implementation for a songInput object
@@ -34,6 +37,16 @@ public final class Song implements Audio {
      */
     @Getter
     private int inPlaylistCount;
+    /**
+     * The counters of the owners holding the song (one for every album it's held in)
+     */
+    private final ArrayList<DeletionBlockers> holders = new ArrayList<>();
+    /**
+     * -- GETTER --
+     * Get the ID of the song in the listen event log
+     */
+    @Getter
+    private int listenId = -1;
 
     public Song(final SongInput songInput) {
         this.songInput = songInput;
@@ -88,13 +101,8 @@ public final class Song implements Audio {
     }
 
     @Override
-    public void addListen(final ListenTrackerNormalUser listenTracker) {
-        listenTracker.addListen(this);
-    }
-
-    @Override
-    public void addListen(final ListenTrackerNormalUser listenTracker, final int count) {
-        listenTracker.addListen(this, count);
+    public void setListenId(final int listenId) {
+        this.listenId = listenId;
     }
 
     @Override
@@ -208,6 +216,7 @@ public final class Song implements Audio {
      */
     private void addLike() {
         likes++;
+        likesChanged();
     }
 
     /**
@@ -216,9 +225,20 @@ public final class Song implements Audio {
     private void removeLike() {
         if (likes > 0) {
             likes--;
+            likesChanged();
         }
     }
 
+    /**
+     * Ranks the song again after its likes changed, in the library and in the liked songs
+     * of its likers
+     */
+    private void likesChanged() {
+        SongsLibrary.getInstance().updateRanking(this);
+        likedBy.forEach(liker -> liker.likedSongLikesChanged(this));
+        RecommendationCandidates.getInstance().likesChanged(this, likedBy);
+    }
+
     public String getArtistName() {
         return songInput.getArtist();
     }
@@ -227,28 +247,79 @@ public final class Song implements Audio {
      * Increments the counter for the number of users that added this song to their playlist
      */
     public void incrementInPlaylistCount() {
+        boolean wasBlocking = blocksDeletion();
         inPlaylistCount++;
+        blockingChanged(wasBlocking);
     }
 
     /**
      * Decrements the counter for the number of users that added this song to their playlist
      */
     public void decrementInPlaylistCount() {
+        boolean wasBlocking = blocksDeletion();
         inPlaylistCount--;
+        blockingChanged(wasBlocking);
     }
 
     /**
      * Increments the counter for the number of users that are playing this song
      */
     public void incrementLoadedCount() {
+        boolean wasBlocking = blocksDeletion();
         loadedCount++;
+        blockingChanged(wasBlocking);
     }
 
     /**
      * Decrements the counter for the number of users that are playing this song
      */
     public void decrementLoadedCount() {
+        boolean wasBlocking = blocksDeletion();
         loadedCount--;
+        blockingChanged(wasBlocking);
+    }
+
+    /**
+     * Checks if the song keeps its album from being deleted
+     * (it's playing in a user's player or it's part of a user's playlist)
+     *
+     * @return {@code true} if the song blocks the deletion, {@code false} otherwise
+     */
+    public boolean blocksDeletion() {
+        return inPlaylistCount > 0 || loadedCount > 0;
+    }
+
+    /**
+     * Counts the song in the counter of an owner that holds it
+     *
+     * @param holder The counter of the owner
+     */
+    public void addHolder(final DeletionBlockers holder) {
+        holders.add(holder);
+        holder.hold(blocksDeletion());
+    }
+
+    /**
+     * Stops counting the song in the counter of an owner
+     *
+     * @param holder The counter of the owner
+     */
+    public void removeHolder(final DeletionBlockers holder) {
+        if (holders.remove(holder)) {
+            holder.release(blocksDeletion());
+        }
+    }
+
+    /**
+     * Reports to the holders if the song started or stopped blocking the deletion
+     *
+     * @param wasBlocking If the song blocked the deletion before the change
+     */
+    private void blockingChanged(final boolean wasBlocking) {
+        boolean blocking = blocksDeletion();
+        for (DeletionBlockers holder : holders) {
+            holder.changed(wasBlocking, blocking);
+        }
     }
 
     /**
@@ -275,15 +346,17 @@ public final class Song implements Audio {
 
     /**
      * Removes all likes for the songs (from the users liked playlist)
+     * The likers are told about the change when the song is removed from their liked songs,
+     * and no other user depends on the likes of the song, so the likes are dropped at once
      */
     public void removeAllLikes() {
-        Iterator<NormalUser> iterator = likedBy.iterator();
-        while (iterator.hasNext()) {
-            NormalUser liker = iterator.next();
-            liker.removeLikedSong(this);
-            removeLike();
-            iterator.remove();
+        if (likedBy.isEmpty()) {
+            return;
         }
+        likedBy.forEach(liker -> liker.removeLikedSong(this));
+        likes = Math.max(0, likes - likedBy.size());
+        likedBy.clear();
+        SongsLibrary.getInstance().updateRanking(this);
     }
 
     @Override
@@ -308,13 +381,45 @@ public final class Song implements Audio {
         return songInput.getGenre();
     }
 
+    /**
+     * Gets the tags of this song
+     *
+     * @return The list of tags
+     */
+    public ArrayList<String> getTags() {
+        return songInput.getTags();
+    }
+
+    /**
+     * Gets the lyrics of this song
+     *
+     * @return The lyrics
+     */
+    public String getLyrics() {
+        return songInput.getLyrics();
+    }
+
+    /**
+     * Gets the year in which this song was released
+     *
+     * @return The release year
+     */
+    public Integer getReleaseYear() {
+        return songInput.getReleaseYear();
+    }
+
     /**
      * Adds the specified amount of money to the revenue for this song
      *
      * @param amount The amount of money to add
      */
     public void addRevenue(final double amount) {
+        double oldRevenue = revenue;
         revenue += amount;
+        Artist artist = ArtistsLibrary.getInstance().getArtistByName(getOwner());
+        if (artist != null) {
+            artist.getRevenueLedger().songRevenueChanged(this, oldRevenue);
+        }
     }
 
     /**
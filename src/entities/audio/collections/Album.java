@@ -1,8 +1,8 @@
 package entities.audio.collections;
 
 import entities.audio.Song;
+import libraries.audio.AlbumsLibrary;
 import lombok.Getter;
-import statistics.listenTrackers.ListenTrackerNormalUser;
 
 import java.util.ArrayList;
 
@@ -45,6 +45,17 @@ public final class Album extends Collection<Song> {
         }
     }
 
+    /**
+     * Checks if the album itself is playing in a user's player
+     * (its songs are held by the artist on their own)
+     *
+     * @return {@code true} if the album blocks the deletion, {@code false} otherwise
+     */
+    @Override
+    public boolean blocksDeletion() {
+        return getLoadedCount() > 0;
+    }
+
     /**
      * Checks if the album is deletable
      * To be deletable, it shouldn't have any of its songs playing in a entities.user's player,
@@ -74,6 +85,7 @@ public final class Album extends Collection<Song> {
      */
     public void addLike() {
         totalLikes++;
+        AlbumsLibrary.getInstance().updateRanking(this);
     }
 
     /**
@@ -82,10 +94,6 @@ public final class Album extends Collection<Song> {
      */
     public void removeLike() {
         totalLikes--;
-    }
-
-    @Override
-    public void addListen(final ListenTrackerNormalUser listenTracker) {
-        listenTracker.addListen(this);
+        AlbumsLibrary.getInstance().updateRanking(this);
     }
 }
@@ -1,6 +1,8 @@
 package entities.audio.collections;
 
+import entities.DeletionBlockers;
 import entities.audio.Audio;
+import lombok.AccessLevel;
 import lombok.Getter;
 
 import java.util.ArrayList;
@@ -26,6 +28,16 @@ public class Collection<E extends Audio> implements Audio {
      *  Gets the owner name of th collection
      */
     private String owner;
+    /**
+     * The counters of the owners holding the collection (one for every time it's held)
+     */
+    @Getter(AccessLevel.NONE)
+    private final ArrayList<DeletionBlockers> holders = new ArrayList<>();
+    /**
+     * -- GETTER --
+     *  Gets the ID of the collection in the listen event log
+     */
+    private int listenId = -1;
 
     public Collection() {
     }
@@ -37,6 +49,16 @@ public class Collection<E extends Audio> implements Audio {
         this.loadedCount = genericCollection.loadedCount;
     }
 
+    /**
+     * Sets the ID of the collection in the listen event log
+     *
+     * @param listenId The ID
+     */
+    @Override
+    public void setListenId(final int listenId) {
+        this.listenId = listenId;
+    }
+
     /**
      * Set the items in a collection
      *
@@ -158,14 +180,18 @@ public class Collection<E extends Audio> implements Audio {
      * Increments the counter for the number of users that are playing this podcast
      */
     public void incrementLoadedCount() {
+        boolean wasBlocking = blocksDeletion();
         loadedCount++;
+        blockingChanged(wasBlocking);
     }
 
     /**
      * Decrements the counter for the number of users that are playing this podcast
      */
     public void decrementLoadedCount() {
+        boolean wasBlocking = blocksDeletion();
         loadedCount--;
+        blockingChanged(wasBlocking);
     }
 
     /**
@@ -179,4 +205,48 @@ public class Collection<E extends Audio> implements Audio {
     public boolean isDeletable() {
         return loadedCount == 0;
     }
+
+    /**
+     * Checks if the collection itself keeps its owner from being deleted
+     * (without the items in it, which are held by the owner on their own if needed)
+     * Method might be Overridden, together with {@link #isDeletable()}
+     *
+     * @return {@code true} if the collection blocks the deletion, {@code false} otherwise
+     */
+    public boolean blocksDeletion() {
+        return loadedCount != 0;
+    }
+
+    /**
+     * Counts the collection in the counter of an owner that holds it
+     *
+     * @param holder The counter of the owner
+     */
+    public void addHolder(final DeletionBlockers holder) {
+        holders.add(holder);
+        holder.hold(blocksDeletion());
+    }
+
+    /**
+     * Stops counting the collection in the counter of an owner
+     *
+     * @param holder The counter of the owner
+     */
+    public void removeHolder(final DeletionBlockers holder) {
+        if (holders.remove(holder)) {
+            holder.release(blocksDeletion());
+        }
+    }
+
+    /**
+     * Reports to the holders if the collection started or stopped blocking the deletion
+     *
+     * @param wasBlocking If the collection blocked the deletion before the change
+     */
+    private void blockingChanged(final boolean wasBlocking) {
+        boolean blocking = blocksDeletion();
+        for (DeletionBlockers holder : holders) {
+            holder.changed(wasBlocking, blocking);
+        }
+    }
 }
@@ -2,10 +2,17 @@ package entities.audio.collections;
 
 import entities.audio.Song;
 import entities.user.NormalUser;
+import libraries.audio.PlaylistsLibrary;
 import lombok.Getter;
+import recommendation.GenreTotals;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -25,6 +32,21 @@ public final class Playlist extends Collection<Song> {
      */
     @Getter
     private int followers = 0;
+    /**
+     * How many songs of every genre are in the playlist, kept up to date as songs are added
+     * and removed
+     * The genres are in the order of their first song in the playlist
+     */
+    private final LinkedHashMap<String, Integer> genreCounts = new LinkedHashMap<>();
+    /**
+     * The genre totals of the users that count the playlist (one for every time it's counted)
+     */
+    private final ArrayList<GenreTotals> genreTotals = new ArrayList<>();
+    /**
+     * If the list of songs is shared with the players that loaded the playlist
+     * (it's copied before the next change, so the players keep the songs they loaded)
+     */
+    private boolean songsShared = false;
 
     public Playlist(final String name, final String owner, final ArrayList<Song> songs) {
         setName(name);
@@ -32,6 +54,106 @@ public final class Playlist extends Collection<Song> {
         setCollection(songs);
     }
 
+    @Override
+    public void setCollection(final ArrayList<Song> songs) {
+        super.setCollection(songs);
+        songsShared = false;
+        genreTotals.forEach(totals -> totals.subtract(genreCounts));
+        countGenres();
+        genreTotals.forEach(totals -> totals.add(genreCounts));
+    }
+
+    @Override
+    public void addItem(final Song song) {
+        copyIfShared();
+        super.addItem(song);
+        genreCounts.merge(song.getGenre(), 1, Integer::sum);
+        genreTotals.forEach(totals -> totals.changed(song.getGenre(), 1));
+    }
+
+    @Override
+    public void removeItem(final Song song) {
+        int index = collection.indexOf(song);
+        if (index < 0) {
+            return;
+        }
+        copyIfShared();
+        collection.remove(index);
+        String genre = song.getGenre();
+        if (genreCounts.get(genre) == 1) {
+            genreCounts.remove(genre);
+        } else if (collection.subList(0, index).stream()
+                .noneMatch(other -> Objects.equals(other.getGenre(), genre))) {
+            countGenres();
+        } else {
+            genreCounts.merge(genre, -1, Integer::sum);
+        }
+        genreTotals.forEach(totals -> totals.changed(genre, -1));
+    }
+
+    /**
+     * Counts the genres of the songs again
+     * (it's also needed when the first song of a genre was removed, so the genre moves
+     * after the genres that now come first)
+     */
+    private void countGenres() {
+        genreCounts.clear();
+        if (collection != null) {
+            collection.forEach(song -> genreCounts.merge(song.getGenre(), 1, Integer::sum));
+        }
+    }
+
+    /**
+     * Gets the genres of the songs in the playlist
+     *
+     * @return The genres, in the order of their first song (a read-only view)
+     */
+    public Set<String> getGenres() {
+        return Collections.unmodifiableSet(genreCounts.keySet());
+    }
+
+    /**
+     * Gets the songs of the playlist for a player that loads it
+     * The list isn't copied; the playlist copies it before its next change instead
+     *
+     * @return The songs, as they are now (the list must not be changed)
+     */
+    public List<Song> shareSongs() {
+        songsShared = true;
+        return collection;
+    }
+
+    /**
+     * Copies the list of songs if it's shared with a player, before it's changed
+     */
+    private void copyIfShared() {
+        if (songsShared) {
+            collection = new ArrayList<>(collection);
+            songsShared = false;
+        }
+    }
+
+    /**
+     * Counts the songs of the playlist in the genre totals of a user
+     *
+     * @param totals The genre totals of the user
+     */
+    public void addGenreTotals(final GenreTotals totals) {
+        genreTotals.add(totals);
+        totals.add(genreCounts);
+    }
+
+    /**
+     * Stops counting the songs of the playlist in the genre totals of a user
+     *
+     * @param totals The genre totals of the user
+     */
+    public void removeGenreTotals(final GenreTotals totals) {
+        if (genreTotals.remove(totals)) {
+            totals.subtract(genreCounts);
+        }
+    }
+
     /**
      * Sets the visibility for the current playlist based on the Visibility enum.
      * The actual visibility value is stored as a String
@@ -42,6 +164,7 @@ public final class Playlist extends Collection<Song> {
      */
     public void setVisibility(final Visibility visibility) {
         this.visibility = visibility.getValue();
+        PlaylistsLibrary.getInstance().updateRanking(this);
     }
 
     /**
@@ -60,6 +183,7 @@ public final class Playlist extends Collection<Song> {
      */
     public void addFollower() {
         followers++;
+        PlaylistsLibrary.getInstance().updateRanking(this);
     }
 
     /**
@@ -68,6 +192,7 @@ public final class Playlist extends Collection<Song> {
     public void removeFollower() {
         if (followers > 0) {
             followers--;
+            PlaylistsLibrary.getInstance().updateRanking(this);
         }
     }
 
@@ -1,20 +1,22 @@
 package entities.user;
 
+import entities.DeletionBlockers;
 import entities.audio.collections.Album;
 import fileio.input.UserInput;
 import libraries.audio.AlbumsLibrary;
 import libraries.audio.SongsLibrary;
+import libraries.users.ArtistsLibrary;
 import lombok.Getter;
 import notifications.Notifiable;
 import notifications.Notifier;
 import profile.artist.Event;
 import profile.artist.Merch;
+import statistics.calculator.RevenueLedger;
 import statistics.listenTrackers.ListenTrackerArtist;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 
 public final class Artist extends User implements Notifier {
@@ -26,12 +28,13 @@ public final class Artist extends User implements Notifier {
     @Getter
     private final ListenTrackerArtist listenTracker = new ListenTrackerArtist();
     private final ArrayList<Notifiable> subscribers = new ArrayList<>();
-    private LinkedHashMap<String, Double> songsRevenueList;
     @Getter
-    private double merchRevenue = 0;
-    @Getter
-    private double songsRevenue = 0;
+    private final RevenueLedger revenueLedger = new RevenueLedger();
     private int pageViewers = 0;
+    /**
+     * The albums and the songs in them that keep the artist from being deleted
+     */
+    private final DeletionBlockers deletionBlockers = new DeletionBlockers();
     @Getter
     private int totalLikes;
 
@@ -46,7 +49,11 @@ public final class Artist extends User implements Notifier {
      * @param album The album to be added.
      */
     public synchronized void addAlbum(final Album album) {
-        albums.add(album);
+        if (albums.add(album)) {
+            album.addHolder(deletionBlockers);
+            album.getCollection().forEach(song -> song.addHolder(deletionBlockers));
+            revenueLedger.addAlbum(album);
+        }
     }
 
     /**
@@ -124,13 +131,18 @@ public final class Artist extends User implements Notifier {
         album.removeAllLikes();
         SongsLibrary.getInstance().removeSongsFromAlbum(album);
         AlbumsLibrary.getInstance().removeAlbum(album);
-        albums.remove(album);
+        if (albums.remove(album)) {
+            album.removeHolder(deletionBlockers);
+            album.getCollection().forEach(song -> song.removeHolder(deletionBlockers));
+            revenueLedger.removeAlbum(album);
+        }
     }
 
     /**
      * Checks if the artist is deletable
      * To be deletable, an artist shouldn't have any of their songs playing or part of a
      * user's playlist, an album that's playing in a user's player, or a viewer on their page
+     * (the albums and the songs report when they start blocking the deletion)
      *
      * @return {@code true} if the artist is deletable, {@code false} otherwise
      */
@@ -139,15 +151,7 @@ public final class Artist extends User implements Notifier {
         if (pageViewers > 0) {
             return false;
         }
-        if (albums == null) {
-            return true;
-        }
-        for (Album album : albums) {
-            if (!album.isDeletable()) {
-                return false;
-            }
-        }
-        return true;
+        return deletionBlockers.isEmpty();
     }
 
     @Override
@@ -193,6 +197,7 @@ public final class Artist extends User implements Notifier {
      */
     public void addLike() {
         totalLikes++;
+        ArtistsLibrary.getInstance().updateRanking(this);
     }
 
     /**
@@ -200,6 +205,7 @@ public final class Artist extends User implements Notifier {
      */
     public void removeLike() {
         totalLikes--;
+        ArtistsLibrary.getInstance().updateRanking(this);
     }
 
     @Override
@@ -218,7 +224,7 @@ public final class Artist extends User implements Notifier {
      * @param amount The amount to be added
      */
     public void addSongRevenue(final double amount) {
-        songsRevenue += amount;
+        revenueLedger.addSettledRevenue(amount);
     }
 
     /**
@@ -227,7 +233,7 @@ public final class Artist extends User implements Notifier {
      * @param amount The amount to be added
      */
     public void addMerchRevenue(final double amount) {
-        merchRevenue += amount;
+        revenueLedger.addMerchRevenue(amount);
     }
 
     /**
@@ -241,12 +247,26 @@ public final class Artist extends User implements Notifier {
                 .findFirst()
                 .orElse(null);
         if (boughtMerch != null) {
-            merchRevenue += boughtMerch.getPrice();
+            revenueLedger.addMerchRevenue(boughtMerch.getPrice());
         }
     }
 
-    public void setSongsRevenueList(final LinkedHashMap<String, Double> songsRevenueList) {
-        this.songsRevenueList = songsRevenueList;
+    /**
+     * Gets the merch revenue
+     *
+     * @return The revenue
+     */
+    public double getMerchRevenue() {
+        return revenueLedger.getMerchRevenue();
+    }
+
+    /**
+     * Gets the songs revenue
+     *
+     * @return The revenue
+     */
+    public double getSongsRevenue() {
+        return revenueLedger.getSongsRevenue();
     }
 
     /**
@@ -256,10 +276,11 @@ public final class Artist extends User implements Notifier {
      * @return The most profitable song's name
      */
     public String getMostProfitableSong() {
-        if (songsRevenueList == null || songsRevenueList.isEmpty() || songsRevenue == 0) {
+        String mostProfitableSong = revenueLedger.getMostProfitableSong();
+        if (mostProfitableSong == null || getSongsRevenue() == 0) {
             return "N/A";
         }
-        return songsRevenueList.keySet().iterator().next();
+        return mostProfitableSong;
     }
 
     @Override
@@ -284,6 +305,6 @@ public final class Artist extends User implements Notifier {
      * @return the total revenue made
      */
     public double getTotalRevenue() {
-        return merchRevenue + songsRevenue;
+        return getMerchRevenue() + getSongsRevenue();
     }
 }
@@ -1,5 +1,6 @@
 package entities.user;
 
+import entities.DeletionBlockers;
 import entities.audio.collections.Podcast;
 import fileio.input.UserInput;
 import lombok.Getter;
@@ -21,6 +22,10 @@ public final class Host extends User implements Notifier {
     private final ListenTrackerHost listenTracker = new ListenTrackerHost();
     private final ArrayList<Notifiable> subscribers = new ArrayList<>();
     private int pageViewersCount = 0;
+    /**
+     * The podcasts that keep the host from being deleted
+     */
+    private final DeletionBlockers deletionBlockers = new DeletionBlockers();
 
     public Host(final String username, final int age, final String city) {
         UserInput userInput = new UserInput(username, age, city);
@@ -33,7 +38,9 @@ public final class Host extends User implements Notifier {
      * @param podcast The podcast to be added.
      */
     public void addPodcast(final Podcast podcast) {
-        podcasts.add(podcast);
+        if (podcasts.add(podcast)) {
+            podcast.addHolder(deletionBlockers);
+        }
     }
 
     /**
@@ -134,7 +141,9 @@ public final class Host extends User implements Notifier {
      * @param podcast The podcast to be removed.
      */
     public void removePodcast(final Podcast podcast) {
-        podcasts.remove(podcast);
+        if (podcasts.remove(podcast)) {
+            podcast.removeHolder(deletionBlockers);
+        }
     }
 
     @Override
@@ -142,15 +151,7 @@ public final class Host extends User implements Notifier {
         if (pageViewersCount > 0) {
             return false;
         }
-        if (podcasts == null) {
-            return true;
-        }
-        for (Podcast podcast : podcasts) {
-            if (!podcast.isDeletable()) {
-                return false;
-            }
-        }
-        return true;
+        return deletionBlockers.isEmpty();
     }
 
     @Override
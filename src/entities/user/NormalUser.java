@@ -1,6 +1,7 @@
 package entities.user;
 
 import commands.normalUser.pageNavigation.PageChangeInvoker;
+import entities.DeletionBlockers;
 import entities.audio.Audio;
 import entities.audio.Song;
 import entities.audio.collections.Collection;
@@ -9,15 +10,19 @@ import entities.audio.collections.Podcast;
 import fileio.input.CommandInput;
 import fileio.input.UserInput;
 import fileio.output.PageOutput;
+import libraries.Leaderboard;
 import libraries.users.ArtistsLibrary;
 import libraries.users.HostsLibrary;
 import lombok.Getter;
+import managers.TimeManager;
 import managers.normalUser.AppManager;
 import managers.normalUser.ProgressManager;
 import notifications.Notifiable;
 import profile.artist.Event;
 import profile.artist.Merch;
 import profile.host.Announcement;
+import recommendation.GenreTotals;
+import recommendation.RecommendationCandidates;
 
 import java.util.ArrayList;
 import java.util.Comparator;
@@ -41,8 +46,26 @@ public final class NormalUser extends User implements Notifiable {
     private ArrayList<Playlist> playlists;
     @Getter
     private Playlist liked;
+    /**
+     * The liked songs ranked from the most liked one (the ones with the same number of likes
+     * are in the order they were liked)
+     * A like only marks the song as changed in the rankings of the users who liked it; the
+     * marked songs are ranked again when the ranking is read
+     */
+    private final Leaderboard<Song> likedByLikes = new Leaderboard<>(Song::getLikes);
     @Getter
     private ArrayList<Playlist> followedPlaylists;
+    /**
+     * -- GETTER --
+     * Gets how many songs of every genre are in the liked songs, the own playlists and the
+     * followed playlists of the user
+     */
+    @Getter
+    private final GenreTotals genreTotals = new GenreTotals(this);
+    /**
+     * The own playlists that keep the user from being deleted
+     */
+    private final DeletionBlockers deletionBlockers = new DeletionBlockers();
     private ProgressManager progressManager;
     private AppManager app;
     @Getter
@@ -91,11 +114,31 @@ public final class NormalUser extends User implements Notifiable {
      */
     public synchronized AppManager getApp() {
         if (app == null) {
-            app = new AppManager(getName());
+            app = new AppManager(this);
         }
         return app;
     }
 
+    /**
+     * Brings the user's player up to date with the current time
+     * (if the app isn't initialized yet, nothing could have been played)
+     */
+    public synchronized void catchUpTime() {
+        if (app != null) {
+            TimeManager.getInstance().catchUpListener(app.getPlayerManager());
+        }
+    }
+
+    /**
+     * Stops logging the listens of the user, after the user was deleted
+     * (if the app isn't initialized yet, nothing was logged)
+     */
+    public synchronized void stopLoggingListens() {
+        if (app != null) {
+            app.getListenTracker().unregister();
+        }
+    }
+
     /**
      * Initialize the playlists array for the current user
      */
@@ -107,13 +150,21 @@ public final class NormalUser extends User implements Notifiable {
      * Initialize the liked playlist for the current user
      */
     public synchronized void initLikedPlaylist() {
+        if (liked != null) {
+            liked.removeGenreTotals(genreTotals);
+        }
         liked = new Playlist("Liked", getName(), new ArrayList<>());
+        liked.addGenreTotals(genreTotals);
+        likedByLikes.reset(null);
     }
 
     /**
      * Initialize the followed playlists list
      */
     public synchronized void initFollowedPlaylists() {
+        if (followedPlaylists != null) {
+            followedPlaylists.forEach(playlist -> playlist.removeGenreTotals(genreTotals));
+        }
         followedPlaylists = new ArrayList<>();
     }
 
@@ -123,7 +174,19 @@ public final class NormalUser extends User implements Notifiable {
      * @param playlists The list of playlists to be set
      */
     public void setPlaylists(final ArrayList<Playlist> playlists) {
+        if (this.playlists != null) {
+            this.playlists.forEach(playlist -> {
+                playlist.removeHolder(deletionBlockers);
+                playlist.removeGenreTotals(genreTotals);
+            });
+        }
         this.playlists = playlists;
+        if (playlists != null) {
+            playlists.forEach(playlist -> {
+                playlist.addHolder(deletionBlockers);
+                playlist.addGenreTotals(genreTotals);
+            });
+        }
     }
 
     /**
@@ -136,6 +199,8 @@ public final class NormalUser extends User implements Notifiable {
             initPlaylists();
         }
         playlists.add(newPlaylist);
+        newPlaylist.addHolder(deletionBlockers);
+        newPlaylist.addGenreTotals(genreTotals);
     }
 
     /**
@@ -150,6 +215,8 @@ public final class NormalUser extends User implements Notifiable {
         }
         if (!isSongLiked(song)) {
             liked.addItem(song);
+            likedByLikes.add(song);
+            RecommendationCandidates.getInstance().likedSongsChanged(this);
         }
     }
 
@@ -165,6 +232,7 @@ public final class NormalUser extends User implements Notifiable {
         }
         if (!isPlaylistFollowed(playlist)) {
             followedPlaylists.add(playlist);
+            playlist.addGenreTotals(genreTotals);
         }
     }
 
@@ -179,7 +247,8 @@ public final class NormalUser extends User implements Notifiable {
             return;
         }
         if (isPlaylistFollowed(followedPlaylist)) {
-            followedPlaylists.remove(followedPlaylist);
+            int index = followedPlaylists.indexOf(followedPlaylist);
+            followedPlaylists.remove(index).removeGenreTotals(genreTotals);
         }
     }
 
@@ -203,10 +272,7 @@ public final class NormalUser extends User implements Notifiable {
      * @return {@code true} if the song is liked, {@code false} otherwise
      */
     public boolean isSongLiked(final Song song) {
-        if (liked == null || liked.isEmpty()) {
-            return false;
-        }
-        return liked.containsItem(song);
+        return likedByLikes.contains(song);
     }
 
     /**
@@ -220,6 +286,30 @@ public final class NormalUser extends User implements Notifiable {
             return;
         }
         liked.removeItem(song);
+        likedByLikes.remove(song);
+        RecommendationCandidates.getInstance().likedSongsChanged(this);
+    }
+
+    /**
+     * Marks a liked song whose likes changed, so it's ranked again when the liked songs are
+     * read
+     *
+     * @param song The song
+     */
+    public void likedSongLikesChanged(final Song song) {
+        likedByLikes.markChanged(song);
+    }
+
+    /**
+     * Gets the liked songs from the most liked one (the ones with the same number of likes
+     * are in the order they were liked)
+     * The songs whose likes changed since the ranking was last read are ranked again first
+     *
+     * @return The ranked songs
+     */
+    public Iterable<Song> getLikedByLikes() {
+        likedByLikes.updateChanged();
+        return likedByLikes.getRanking();
     }
 
     public boolean isOnline() {
@@ -391,20 +481,13 @@ public final class NormalUser extends User implements Notifiable {
     /**
      * Checks if the user is deletable
      * The user is not deletable if other user is playing one of their playlists
+     * (the playlists report when they start blocking the deletion)
      *
      * @return {@code true} if the user ise deletable, {@code false} otherwise
      */
     @Override
     public boolean isDeletable() {
-        if (playlists == null) {
-            return true;
-        }
-        for (Playlist playlist : playlists) {
-            if (!playlist.isDeletable()) {
-                return false;
-            }
-        }
-        return true;
+        return deletionBlockers.isEmpty();
     }
 
     @Override
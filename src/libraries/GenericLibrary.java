@@ -1,9 +1,22 @@
 package libraries;
 
+import entities.Entity;
+
 import java.util.ArrayList;
+import java.util.HashMap;
 
-public class GenericLibrary<E> {
+public class GenericLibrary<E extends Entity> {
     private ArrayList<E> items;
+    /**
+     * Index from an item's name to every item with that name, kept in the same
+     * relative order as in the items list (so the first entry matches a linear scan)
+     */
+    private final HashMap<String, ArrayList<E>> itemsByName = new HashMap<>();
+    /**
+     * Incremented every time the items in the library change, so the structures built
+     * from them know when they changed
+     */
+    private int version = 0;
 
     protected GenericLibrary() { }
 
@@ -18,11 +31,19 @@ public class GenericLibrary<E> {
 
     /**
      * Sets the items in the library: songs, podcasts or playlists
+     * It also rebuilds the name index for the library
      *
      * @param items The list of items to be set
      */
     public void setItems(final ArrayList<E> items) {
         this.items = items;
+        version++;
+        itemsByName.clear();
+        if (items != null) {
+            for (E item : items) {
+                indexItem(item);
+            }
+        }
     }
 
     /**
@@ -34,7 +55,9 @@ public class GenericLibrary<E> {
         if (items == null) {
             items = new ArrayList<>();
         }
-            items.add(item);
+        items.add(item);
+        version++;
+        indexItem(item);
     }
 
     /**
@@ -42,7 +65,85 @@ public class GenericLibrary<E> {
      * @param item The item to be removed
      */
     public void removeItem(final E item) {
-        items.remove(item);
+        int index = items == null ? -1 : items.indexOf(item);
+        if (index < 0) {
+            return;
+        }
+        E removed = items.remove(index);
+        version++;
+        ArrayList<E> sameName = itemsByName.get(item.getName());
+        if (sameName != null) {
+            sameName.remove(item);
+            if (sameName.isEmpty()) {
+                itemsByName.remove(item.getName());
+            }
+        }
+        itemRemoved(index, removed);
+    }
+
+    /**
+     * Called after an item was removed from the library, for the libraries that keep
+     * structures over the positions of their items
+     *
+     * @param index   The index the item had in the items list
+     * @param removed The removed item (the first one equal to the item given for removal)
+     */
+    protected void itemRemoved(final int index, final E removed) {
+    }
+
+    /**
+     * Gets the first item in the library (in insertion order) with the specified name
+     *
+     * @param name The name we search for
+     * @return The item or {@code null} if there is no item with that name
+     */
+    public E getItemByName(final String name) {
+        ArrayList<E> sameName = itemsByName.get(name);
+        if (sameName == null) {
+            return null;
+        }
+        return sameName.get(0);
+    }
+
+    /**
+     * Checks if there is an item with the specified name in the library
+     *
+     * @param name The name we search for
+     * @return {@code true} if the item exists, {@code false} otherwise
+     */
+    public boolean itemExists(final String name) {
+        return itemsByName.containsKey(name);
+    }
+
+    /**
+     * Checks if the specified item is in the library, looking only through the items
+     * with the same name (like a linear scan, the items are compared with equals)
+     *
+     * @param item The item we search for
+     * @return {@code true} if the item is in the library, {@code false} otherwise
+     */
+    public boolean containsItem(final E item) {
+        ArrayList<E> sameName = itemsByName.get(item.getName());
+        return sameName != null && sameName.contains(item);
+    }
+
+    /**
+     * Gets the version of the library's items
+     * It changes every time an item is added or removed or the items are set
+     *
+     * @return the version
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Adds the item to the name index
+     *
+     * @param item The item to be indexed
+     */
+    private void indexItem(final E item) {
+        itemsByName.computeIfAbsent(item.getName(), name -> new ArrayList<>()).add(item);
     }
 
     /**
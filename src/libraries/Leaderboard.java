@@ -0,0 +1,187 @@
+package libraries;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+/**
+ * Ranks the items of a library by a score, from the highest one, and keeps them ranked
+ * while their scores change, so the top items are read without sorting the library
+ * Items with the same score are ordered by the tie breaker and then in the order they
+ * were added in the library (the order of a stable sort over the library)
+ *
+ * @param <E> The class of the ranked items
+ */
+public final class Leaderboard<E> {
+    private final ToIntFunction<E> score;
+    private final Predicate<E> rankedIf;
+    private final IdentityHashMap<E, Entry<E>> entries = new IdentityHashMap<>();
+    private final TreeSet<Entry<E>> ranking;
+    /**
+     * The items marked as changed since they were last ranked
+     */
+    private final Set<E> changed = Collections.newSetFromMap(new IdentityHashMap<>());
+    private long nextSequence = 0;
+
+    /**
+     * Creates a leaderboard
+     *
+     * @param score      The score of an item
+     * @param tieBreaker The order of the items with the same score
+     *                   (it must only compare values that don't change)
+     * @param rankedIf   The condition an item of the library must meet to be ranked
+     */
+    public Leaderboard(final ToIntFunction<E> score,
+                       final Comparator<E> tieBreaker,
+                       final Predicate<E> rankedIf) {
+        this.score = score;
+        this.rankedIf = rankedIf;
+        Comparator<Entry<E>> byScore = Comparator.comparingInt(Entry::score);
+        ranking = new TreeSet<>(byScore.reversed()
+                .thenComparing(Entry::item, tieBreaker)
+                .thenComparingLong(Entry::sequence));
+    }
+
+    /**
+     * Creates a leaderboard that ranks all the items in the library, keeping the ones with
+     * the same score in the order of the library
+     *
+     * @param score The score of an item
+     */
+    public Leaderboard(final ToIntFunction<E> score) {
+        this(score, (first, second) -> 0, item -> true);
+    }
+
+    /**
+     * Ranks again all the items of the library
+     *
+     * @param items The items in the library, in their order
+     */
+    public void reset(final List<E> items) {
+        entries.clear();
+        ranking.clear();
+        changed.clear();
+        if (items != null) {
+            items.forEach(this::add);
+        }
+    }
+
+    /**
+     * Adds an item at the end of the library
+     *
+     * @param item The added item
+     */
+    public void add(final E item) {
+        Entry<E> entry = new Entry<>(item, score.applyAsInt(item), nextSequence++);
+        entries.put(item, entry);
+        if (rankedIf.test(item)) {
+            ranking.add(entry);
+        }
+    }
+
+    /**
+     * Removes an item from the library
+     *
+     * @param item The removed item
+     */
+    public void remove(final E item) {
+        Entry<E> entry = entries.remove(item);
+        if (entry != null) {
+            ranking.remove(entry);
+            changed.remove(item);
+        }
+    }
+
+    /**
+     * Ranks again an item after its score (or the condition to be ranked) changed
+     * Items that aren't in the library are ignored
+     *
+     * @param item The changed item
+     */
+    public void update(final E item) {
+        Entry<E> entry = entries.get(item);
+        if (entry == null) {
+            return;
+        }
+        ranking.remove(entry);
+        Entry<E> updated = new Entry<>(item, score.applyAsInt(item), entry.sequence());
+        entries.put(item, updated);
+        if (rankedIf.test(item)) {
+            ranking.add(updated);
+        }
+    }
+
+    /**
+     * Marks an item whose score changed, so it's ranked again by {@link #updateChanged()}
+     * (for the leaderboards that are read less often than their scores change)
+     * Items that aren't in the library are ignored
+     *
+     * @param item The changed item
+     */
+    public void markChanged(final E item) {
+        if (entries.containsKey(item)) {
+            changed.add(item);
+        }
+    }
+
+    /**
+     * Ranks again the items marked as changed since they were last ranked
+     */
+    public void updateChanged() {
+        changed.forEach(this::update);
+        changed.clear();
+    }
+
+    /**
+     * Checks if an item is in the library
+     *
+     * @param item The item
+     * @return {@code true} if the item was added and not removed, {@code false} otherwise
+     */
+    public boolean contains(final E item) {
+        return entries.containsKey(item);
+    }
+
+    /**
+     * Gets the top ranked items
+     *
+     * @param count The maximum number of items
+     * @return The items, from the highest ranked one
+     */
+    public ArrayList<E> getTop(final int count) {
+        ArrayList<E> top = new ArrayList<>();
+        Iterator<E> iterator = getRanking().iterator();
+        while (top.size() < count && iterator.hasNext()) {
+            top.add(iterator.next());
+        }
+        return top;
+    }
+
+    /**
+     * Gets all the ranked items, from the highest ranked one
+     * (it's a view, so the scores must not change while it's iterated)
+     *
+     * @return The ranked items
+     */
+    public Iterable<E> getRanking() {
+        return () -> ranking.stream().map(Entry::item).iterator();
+    }
+
+    /**
+     * An item with the score it was ranked by
+     *
+     * @param item     The item
+     * @param score    The score of the item when it was last ranked
+     * @param sequence The position of the item in the order it was added in the library
+     * @param <E>      The class of the item
+     */
+    private record Entry<E>(E item, int score, long sequence) {
+    }
+}
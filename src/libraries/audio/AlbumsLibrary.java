@@ -1,16 +1,21 @@
 package libraries.audio;
 
+import commands.normalUser.searchBar.index.SearchIndexes;
 import entities.audio.collections.Album;
 import libraries.GenericLibrary;
+import libraries.Leaderboard;
 import libraries.users.ArtistsLibrary;
 import entities.user.Artist;
 
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 
 public final class AlbumsLibrary extends GenericLibrary<Album> {
     private static AlbumsLibrary instance = null;
+    private final Leaderboard<Album> topAlbums = new Leaderboard<>(Album::getTotalLikes,
+            Comparator.comparing(Album::getName), album -> true);
 
     private AlbumsLibrary() {
     }
@@ -27,6 +32,50 @@ public final class AlbumsLibrary extends GenericLibrary<Album> {
         return instance;
     }
 
+    @Override
+    public void setItems(final ArrayList<Album> albums) {
+        super.setItems(albums);
+        topAlbums.reset(albums);
+        SearchIndexes.getInstance().albumsReset();
+    }
+
+    @Override
+    public void addItem(final Album album) {
+        super.addItem(album);
+        topAlbums.add(album);
+        SearchIndexes.getInstance().albumAdded(album);
+    }
+
+    @Override
+    public void removeItem(final Album album) {
+        super.removeItem(album);
+        topAlbums.remove(album);
+    }
+
+    @Override
+    protected void itemRemoved(final int index, final Album album) {
+        SearchIndexes.getInstance().albumRemoved(album);
+    }
+
+    /**
+     * Ranks the album again after its likes changed
+     *
+     * @param album The album
+     */
+    public void updateRanking(final Album album) {
+        topAlbums.update(album);
+    }
+
+    /**
+     * Gets the top albums by likes (and then by name)
+     *
+     * @param maxNumber The maximum number of albums to keep
+     * @return The list of albums with the most likes
+     */
+    public ArrayList<Album> getTopAlbums(final int maxNumber) {
+        return topAlbums.getTop(maxNumber);
+    }
+
     /**
      * Adds an album from the library
      *
@@ -53,10 +102,7 @@ public final class AlbumsLibrary extends GenericLibrary<Album> {
      * @return The album
      */
     public Album getAlbumByName(final String albumName) {
-        ArrayList<Album> albums = getItems();
-        return albums.stream().filter(album -> album.getName().equals(albumName))
-                .findFirst()
-                .orElse(null);
+        return getItemByName(albumName);
     }
 
     /**
@@ -72,14 +118,14 @@ public final class AlbumsLibrary extends GenericLibrary<Album> {
      */
     public ArrayList<Album> sortAlbumsByArtistOrder() {
         ArrayList<Album> albums = new ArrayList<>(getItems());
-        ArtistsLibrary artistsLibrary = ArtistsLibrary.getInstance();
-        List<Artist> artists = artistsLibrary.getItems();
-
-        Comparator<Album> albumComparator = Comparator.comparingInt(album -> {
-            Artist artist = artistsLibrary.getArtistByName(album.getOwner());
-            int index = artists.indexOf(artist);
-            return index == -1 ? Integer.MAX_VALUE : index;
-        });
+        List<Artist> artists = ArtistsLibrary.getInstance().getItems();
+        HashMap<String, Integer> artistsOrder = new HashMap<>();
+        for (int i = 0; i < artists.size(); i++) {
+            artistsOrder.putIfAbsent(artists.get(i).getName(), i);
+        }
+
+        Comparator<Album> albumComparator = Comparator.comparingInt(album ->
+                artistsOrder.getOrDefault(album.getOwner(), Integer.MAX_VALUE));
 
         albums.sort(albumComparator);
         return albums;
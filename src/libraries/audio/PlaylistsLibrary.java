@@ -3,14 +3,16 @@ package libraries.audio;
 import entities.audio.collections.Collection;
 import entities.audio.collections.Playlist;
 import commands.normalUser.searchBar.filter.filterAudio.filterCollections.FilterPlaylists;
+import commands.normalUser.searchBar.index.SearchIndexes;
 import libraries.GenericLibrary;
+import libraries.Leaderboard;
 
 import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.List;
 
 public final class PlaylistsLibrary extends GenericLibrary<Playlist> {
     private static PlaylistsLibrary instance = null;
+    private final Leaderboard<Playlist> topPlaylists = new Leaderboard<>(Playlist::getFollowers,
+            (first, second) -> 0, playlist -> !playlist.isPrivate());
 
     private PlaylistsLibrary() {
     }
@@ -28,6 +30,41 @@ public final class PlaylistsLibrary extends GenericLibrary<Playlist> {
         return instance;
     }
 
+    @Override
+    public void setItems(final ArrayList<Playlist> playlists) {
+        super.setItems(playlists);
+        topPlaylists.reset(playlists);
+        SearchIndexes.getInstance().playlistsReset();
+    }
+
+    @Override
+    public void addItem(final Playlist playlist) {
+        super.addItem(playlist);
+        topPlaylists.add(playlist);
+        SearchIndexes.getInstance().playlistAdded(playlist);
+    }
+
+    /**
+     * Removes the playlist from the library and from the top playlists
+     * A playlist isn't always equal to itself (see {@code Playlist.equals}), so it's removed
+     * from the top playlists only if it was removed from the library
+     *
+     * @param playlist The playlist to be removed
+     */
+    @Override
+    public void removeItem(final Playlist playlist) {
+        int version = getVersion();
+        super.removeItem(playlist);
+        if (getVersion() != version) {
+            topPlaylists.remove(playlist);
+        }
+    }
+
+    @Override
+    protected void itemRemoved(final int index, final Playlist playlist) {
+        SearchIndexes.getInstance().playlistRemoved(index);
+    }
+
     /**
      * Removes the specified playlist from the library
      * @param playlist The playlist to be removed
@@ -79,47 +116,25 @@ public final class PlaylistsLibrary extends GenericLibrary<Playlist> {
     }
 
     /**
-     * Filters only public playlists
+     * Ranks the playlist again after its followers or its visibility changed
      *
-     * @return A list of public playlists
+     * @param playlist The playlist
      */
-    private ArrayList<? extends Collection<?>> getPublicPlaylists() {
-        if (getItems() == null) {
-            return null;
-        }
-        FilterPlaylists filterPlaylists = new FilterPlaylists(getItems());
-        return filterPlaylists.byVisibility().getFilteredObjects();
+    public void updateRanking(final Playlist playlist) {
+        topPlaylists.update(playlist);
     }
 
     /**
-     * Sort the given list of playlists by followers in descending order
-     *
-     * @param playlists the list of playlists to be sorted
-     * @return The sorted list
-     */
-    private ArrayList<Playlist> sortPlaylistsByFollowers(final ArrayList<Playlist> playlists) {
-        if (playlists == null) {
-            return null;
-        }
-        playlists.sort(Comparator.comparing(Playlist::getFollowers).reversed());
-        return playlists;
-    }
-
-    /**
-     * Gets the top playlists by followers and keeps only the specified number of playlists
+     * Gets the top public playlists by followers and keeps only the specified number
+     * of playlists (the ones with the same followers are kept in the order of the library)
      *
      * @param maxNumber The maximum number of playlists to keep
      * @return The list of playlists with the most followers
      */
     public ArrayList<Playlist> getTopPlaylists(final int maxNumber) {
-        ArrayList<Playlist> publicPlaylists = (ArrayList<Playlist>) getPublicPlaylists();
-        ArrayList<Playlist> sortedPublicPlaylists = sortPlaylistsByFollowers(publicPlaylists);
-        if (sortedPublicPlaylists != null) {
-            if (sortedPublicPlaylists.size() > maxNumber) {
-                List<Playlist> firstPlaylists = sortedPublicPlaylists.subList(0, maxNumber);
-                return new ArrayList<>(firstPlaylists);
-            }
+        if (getItems() == null) {
+            return null;
         }
-        return sortedPublicPlaylists;
+        return topPlaylists.getTop(maxNumber);
     }
 }
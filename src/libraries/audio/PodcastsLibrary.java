@@ -1,8 +1,11 @@
 package libraries.audio;
 
+import commands.normalUser.searchBar.index.SearchIndexes;
 import entities.audio.collections.Podcast;
 import libraries.GenericLibrary;
 
+import java.util.ArrayList;
+
 public final class PodcastsLibrary extends GenericLibrary<Podcast> {
     private static PodcastsLibrary instance = null;
 
@@ -22,6 +25,23 @@ public final class PodcastsLibrary extends GenericLibrary<Podcast> {
         return instance;
     }
 
+    @Override
+    public void setItems(final ArrayList<Podcast> podcasts) {
+        super.setItems(podcasts);
+        SearchIndexes.getInstance().podcastsReset();
+    }
+
+    @Override
+    public void addItem(final Podcast podcast) {
+        super.addItem(podcast);
+        SearchIndexes.getInstance().podcastAdded(podcast);
+    }
+
+    @Override
+    protected void itemRemoved(final int index, final Podcast podcast) {
+        SearchIndexes.getInstance().podcastRemoved(index);
+    }
+
     /**
      * Adds the specified podcast to the library
      *
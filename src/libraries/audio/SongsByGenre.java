@@ -0,0 +1,104 @@
+package libraries.audio;
+
+import commands.normalUser.searchBar.index.SongsIndex;
+import entities.audio.Song;
+import libraries.Leaderboard;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Index of the songs library by genre (ignoring case, like {@code Song.isGenre})
+ * For every genre it keeps the songs in the order of the library and ranked from the least
+ * liked one, kept ranked while the likes change
+ */
+public final class SongsByGenre {
+    private final HashMap<String, ArrayList<Song>> songs = new HashMap<>();
+    private final HashMap<String, Leaderboard<Song>> byLikes = new HashMap<>();
+
+    /**
+     * Indexes again all the songs of the library
+     *
+     * @param items The songs in the library, in their order
+     */
+    public void reset(final List<Song> items) {
+        songs.clear();
+        byLikes.clear();
+        if (items != null) {
+            items.forEach(this::add);
+        }
+    }
+
+    /**
+     * Adds a song at the end of the library
+     *
+     * @param song The added song
+     */
+    public void add(final Song song) {
+        String genre = SongsIndex.foldCase(song.getGenre());
+        songs.computeIfAbsent(genre, key -> new ArrayList<>()).add(song);
+        byLikes.computeIfAbsent(genre, key -> new Leaderboard<>(item -> -item.getLikes()))
+                .add(song);
+    }
+
+    /**
+     * Removes a song from the library
+     *
+     * @param song The removed song
+     */
+    public void remove(final Song song) {
+        String genre = SongsIndex.foldCase(song.getGenre());
+        ArrayList<Song> genreSongs = songs.get(genre);
+        if (genreSongs == null || !genreSongs.remove(song)) {
+            return;
+        }
+        byLikes.get(genre).remove(song);
+        if (genreSongs.isEmpty()) {
+            songs.remove(genre);
+            byLikes.remove(genre);
+        }
+    }
+
+    /**
+     * Ranks the song again after its likes changed
+     *
+     * @param song The song
+     */
+    public void update(final Song song) {
+        Leaderboard<Song> genreByLikes = byLikes.get(SongsIndex.foldCase(song.getGenre()));
+        if (genreByLikes != null) {
+            genreByLikes.update(song);
+        }
+    }
+
+    /**
+     * Gets the songs of the specified genre, in the order of the library
+     *
+     * @param genre The genre
+     * @return The songs (a read-only view)
+     */
+    public List<Song> getSongs(final String genre) {
+        ArrayList<Song> genreSongs = songs.get(SongsIndex.foldCase(genre));
+        if (genreSongs == null) {
+            return List.of();
+        }
+        return Collections.unmodifiableList(genreSongs);
+    }
+
+    /**
+     * Gets the songs of the specified genre from the least liked one
+     * (the songs with the same number of likes are in the order of the library)
+     *
+     * @param genre The genre
+     * @return The ranked songs
+     */
+    public Iterable<Song> getByLikes(final String genre) {
+        Leaderboard<Song> genreByLikes = byLikes.get(SongsIndex.foldCase(genre));
+        if (genreByLikes == null) {
+            return List.of();
+        }
+        return genreByLikes.getRanking();
+    }
+}
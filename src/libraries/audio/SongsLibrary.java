@@ -1,17 +1,25 @@
 package libraries.audio;
 
+import commands.normalUser.searchBar.index.SearchIndexes;
 import entities.audio.Song;
 import entities.audio.collections.Album;
 import libraries.GenericLibrary;
+import libraries.Leaderboard;
 import lombok.Getter;
 
 import java.util.ArrayList;
-import java.util.Comparator;
 
 public final class SongsLibrary extends GenericLibrary<Song> {
     private static SongsLibrary instance = null;
     @Getter
     private static int adDuration;
+    private final Leaderboard<Song> topSongs = new Leaderboard<>(Song::getLikes);
+    /**
+     * -- GETTER --
+     * Gets the index of the songs by genre
+     */
+    @Getter
+    private final SongsByGenre songsByGenre = new SongsByGenre();
 
     private SongsLibrary() {
     }
@@ -29,8 +37,47 @@ public final class SongsLibrary extends GenericLibrary<Song> {
         return instance;
     }
 
+    @Override
+    public void setItems(final ArrayList<Song> songs) {
+        super.setItems(songs);
+        topSongs.reset(songs);
+        songsByGenre.reset(songs);
+        SearchIndexes.getInstance().songsReset();
+    }
+
+    @Override
+    public void addItem(final Song song) {
+        super.addItem(song);
+        topSongs.add(song);
+        songsByGenre.add(song);
+        SearchIndexes.getInstance().songAdded(song);
+    }
+
+    @Override
+    public void removeItem(final Song song) {
+        super.removeItem(song);
+        topSongs.remove(song);
+        songsByGenre.remove(song);
+    }
+
+    @Override
+    protected void itemRemoved(final int index, final Song song) {
+        SearchIndexes.getInstance().songRemoved(index);
+    }
+
+    /**
+     * Ranks the song again after its likes changed
+     *
+     * @param song The song
+     */
+    public void updateRanking(final Song song) {
+        topSongs.update(song);
+        songsByGenre.update(song);
+    }
+
     /**
      * Gets the top songs by likes and keeps only the specified number of songs
+     * (the songs with the same number of likes are kept in the order of the library)
      *
      * @param maxNumber The maximum number of songs to keep
      * @return The list of songs with the most likes
@@ -39,12 +86,7 @@ public final class SongsLibrary extends GenericLibrary<Song> {
         if (getItems() == null) {
             return null;
         }
-        ArrayList<Song> songs = new ArrayList<>(getItems());
-        songs.sort(Comparator.comparing(Song::getLikes).reversed());
-        if (songs.size() > maxNumber) {
-            songs.retainAll(songs.subList(0, maxNumber));
-        }
-        return songs;
+        return topSongs.getTop(maxNumber);
     }
 
     /**
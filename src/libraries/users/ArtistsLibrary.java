@@ -1,16 +1,22 @@
 package libraries.users;
 
+import commands.normalUser.searchBar.index.SearchIndexes;
 import entities.audio.collections.Album;
 import libraries.GenericLibrary;
+import libraries.Leaderboard;
 import libraries.audio.AlbumsLibrary;
 import libraries.audio.SongsLibrary;
 import entities.user.Artist;
+import entities.user.UserType;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashSet;
 
 public final class ArtistsLibrary extends GenericLibrary<Artist> {
     private static ArtistsLibrary instance = null;
+    private final Leaderboard<Artist> topArtists = new Leaderboard<>(Artist::getTotalLikes,
+            Comparator.comparing(Artist::getName), artist -> true);
 
     private ArtistsLibrary() {
     }
@@ -28,6 +34,59 @@ public final class ArtistsLibrary extends GenericLibrary<Artist> {
         return instance;
     }
 
+    @Override
+    public void setItems(final ArrayList<Artist> artists) {
+        super.setItems(artists);
+        topArtists.reset(artists);
+        UsersDirectory.getInstance().unregisterAll(UserType.artist);
+        if (artists != null) {
+            for (Artist artist : artists) {
+                UsersDirectory.getInstance().register(artist, UserType.artist);
+            }
+        }
+        SearchIndexes.getInstance().albumsReset();
+    }
+
+    @Override
+    public void addItem(final Artist artist) {
+        super.addItem(artist);
+        topArtists.add(artist);
+        UsersDirectory.getInstance().register(artist, UserType.artist);
+        SearchIndexes.getInstance().artistAdded(artist);
+    }
+
+    @Override
+    public void removeItem(final Artist artist) {
+        super.removeItem(artist);
+        topArtists.remove(artist);
+        UsersDirectory.getInstance().unregister(artist);
+        artist.getListenTracker().unregister();
+    }
+
+    @Override
+    protected void itemRemoved(final int index, final Artist artist) {
+        SearchIndexes.getInstance().artistRemoved(artist);
+    }
+
+    /**
+     * Ranks the artist again after their likes changed
+     *
+     * @param artist The artist
+     */
+    public void updateRanking(final Artist artist) {
+        topArtists.update(artist);
+    }
+
+    /**
+     * Gets the top artists by likes (and then by name)
+     *
+     * @param maxNumber The maximum number of artists to keep
+     * @return The list of artists with the most likes
+     */
+    public ArrayList<Artist> getTopArtists(final int maxNumber) {
+        return topArtists.getTop(maxNumber);
+    }
+
     /**
      * Check if the artist exists given their name
      *
@@ -35,16 +94,7 @@ public final class ArtistsLibrary extends GenericLibrary<Artist> {
      * @return {@code true} if the artist exists in the library, {@code false} otherwise
      */
     public boolean artistExists(final String username) {
-        ArrayList<Artist> artists = getItems();
-        if (artists == null || artists.isEmpty()) {
-            return false;
-        }
-        for (Artist artist : artists) {
-            if (artist.getName().equals(username)) {
-                return true;
-            }
-        }
-        return false;
+        return itemExists(username);
     }
 
     /**
@@ -54,19 +104,7 @@ public final class ArtistsLibrary extends GenericLibrary<Artist> {
      * @return The found artist
      */
     public Artist getArtistByName(final String username) {
-        if (username == null) {
-            return null;
-        }
-        ArrayList<Artist> artists = getItems();
-        if (artists == null || artists.isEmpty()) {
-            return null;
-        }
-        for (Artist artist : artists) {
-            if (artist.getName().equals(username)) {
-                return artist;
-            }
-        }
-        return null;
+        return getItemByName(username);
     }
 
     /**
@@ -4,6 +4,7 @@ import entities.audio.collections.Podcast;
 import libraries.GenericLibrary;
 import libraries.audio.PodcastsLibrary;
 import entities.user.Host;
+import entities.user.UserType;
 
 import java.util.ArrayList;
 import java.util.LinkedHashSet;
@@ -27,6 +28,30 @@ public final class HostsLibrary extends GenericLibrary<Host> {
         return instance;
     }
 
+    @Override
+    public void setItems(final ArrayList<Host> hosts) {
+        super.setItems(hosts);
+        UsersDirectory.getInstance().unregisterAll(UserType.host);
+        if (hosts != null) {
+            for (Host host : hosts) {
+                UsersDirectory.getInstance().register(host, UserType.host);
+            }
+        }
+    }
+
+    @Override
+    public void addItem(final Host host) {
+        super.addItem(host);
+        UsersDirectory.getInstance().register(host, UserType.host);
+    }
+
+    @Override
+    public void removeItem(final Host host) {
+        super.removeItem(host);
+        UsersDirectory.getInstance().unregister(host);
+        host.getListenTracker().unregister();
+    }
+
     /**
      * Checks if the host exists
      *
@@ -34,16 +59,7 @@ public final class HostsLibrary extends GenericLibrary<Host> {
      * @return {@code true} if the host exists, {@code false} otherwise
      */
     public boolean hostExists(final String username) {
-        ArrayList<Host> hosts = getItems();
-        if (hosts == null || hosts.isEmpty()) {
-            return false;
-        }
-        for (Host host : hosts) {
-            if (host.getName().equals(username)) {
-                return true;
-            }
-        }
-        return false;
+        return itemExists(username);
     }
 
     /**
@@ -53,16 +69,7 @@ public final class HostsLibrary extends GenericLibrary<Host> {
      * @return The host
      */
     public Host getHostByName(final String username) {
-        ArrayList<Host> hosts = getItems();
-        if (hosts == null || hosts.isEmpty()) {
-            return null;
-        }
-        for (Host host : hosts) {
-            if (host.getName().equals(username)) {
-                return host;
-            }
-        }
-        return null;
+        return getItemByName(username);
     }
 
     /**
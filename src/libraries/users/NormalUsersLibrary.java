@@ -5,6 +5,7 @@ import entities.audio.collections.Playlist;
 import libraries.GenericLibrary;
 import libraries.audio.PlaylistsLibrary;
 import entities.user.NormalUser;
+import entities.user.UserType;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -28,6 +29,30 @@ public final class NormalUsersLibrary extends GenericLibrary<NormalUser> {
         return instance;
     }
 
+    @Override
+    public void setItems(final ArrayList<NormalUser> users) {
+        super.setItems(users);
+        UsersDirectory.getInstance().unregisterAll(UserType.user);
+        if (users != null) {
+            for (NormalUser normalUser : users) {
+                UsersDirectory.getInstance().register(normalUser, UserType.user);
+            }
+        }
+    }
+
+    @Override
+    public void addItem(final NormalUser normalUser) {
+        super.addItem(normalUser);
+        UsersDirectory.getInstance().register(normalUser, UserType.user);
+    }
+
+    @Override
+    public void removeItem(final NormalUser normalUser) {
+        super.removeItem(normalUser);
+        UsersDirectory.getInstance().unregister(normalUser);
+        normalUser.stopLoggingListens();
+    }
+
     /**
      * Gets the entities.user by the specified username
      *
@@ -35,14 +60,7 @@ public final class NormalUsersLibrary extends GenericLibrary<NormalUser> {
      * @return The entities.user
      */
     public NormalUser getUserByName(final String username) {
-        if (getItems() == null) {
-            return null;
-        }
-        return getItems()
-                .stream()
-                .filter(user -> user.getName().equals(username))
-                .findFirst()
-                .orElse(null);
+        return getItemByName(username);
     }
 
     public List<String> getOnlineUsers() {
@@ -59,7 +77,7 @@ public final class NormalUsersLibrary extends GenericLibrary<NormalUser> {
      * @return {@code true} if the entities.user exists, {@code false} otherwise
      */
     public boolean userExists(final String username) {
-        return getUserByName(username) != null;
+        return itemExists(username);
     }
 
     /**
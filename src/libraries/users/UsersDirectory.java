@@ -0,0 +1,139 @@
+package libraries.users;
+
+import entities.user.User;
+import entities.user.UserType;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+/**
+ * Directory of all the users in the app (normal users, artists and hosts)
+ * It is kept up to date by the user libraries whenever a user is added or deleted
+ */
+public final class UsersDirectory {
+    private static UsersDirectory instance = null;
+    private final HashMap<String, DirectoryEntry> entries = new HashMap<>();
+    private ArrayList<Object> allUsernames = null;
+
+    private UsersDirectory() {
+    }
+
+    /**
+     * Gets the instance for the users' directory class (singleton pattern)
+     * Initialize it if needed
+     *
+     * @return The directory instance
+     */
+    public static synchronized UsersDirectory getInstance() {
+        if (instance == null) {
+            instance = new UsersDirectory();
+        }
+        return instance;
+    }
+
+    /**
+     * Registers a user in the directory
+     *
+     * @param user The user to be registered
+     * @param type The type of the user
+     */
+    public void register(final User user, final UserType type) {
+        entries.put(user.getName(), new DirectoryEntry(user, type));
+        allUsernames = null;
+    }
+
+    /**
+     * Removes a user from the directory
+     *
+     * @param user The user to be removed
+     */
+    public void unregister(final User user) {
+        DirectoryEntry entry = entries.get(user.getName());
+        if (entry != null && entry.user() == user) {
+            entries.remove(user.getName());
+        }
+        allUsernames = null;
+    }
+
+    /**
+     * Removes all the users of the specified type from the directory
+     * (used when a whole user library is reset)
+     *
+     * @param type The type of the users to be removed
+     */
+    public void unregisterAll(final UserType type) {
+        entries.values().removeIf(entry -> entry.type() == type);
+        allUsernames = null;
+    }
+
+    /**
+     * Checks if a user with the specified name exists (no matter the type)
+     *
+     * @param username The name of the user
+     * @return {@code true} if the user exists, {@code false} otherwise
+     */
+    public boolean userExists(final String username) {
+        return entries.containsKey(username);
+    }
+
+    /**
+     * Gets a user by their name (no matter the type)
+     *
+     * @param username The name of the user
+     * @return The user or {@code null} if it wasn't found
+     */
+    public User getUserByName(final String username) {
+        DirectoryEntry entry = entries.get(username);
+        return entry == null ? null : entry.user();
+    }
+
+    /**
+     * Gets the type of the user with the specified name
+     *
+     * @param username The name of the user
+     * @return The type of the user or {@code null} if it wasn't found
+     */
+    public UserType getUserType(final String username) {
+        DirectoryEntry entry = entries.get(username);
+        return entry == null ? null : entry.type();
+    }
+
+    /**
+     * Get a list with all the usernames in the order: normal users, artists, hosts
+     * The list is rebuilt only after the users changed
+     *
+     * @return The list of usernames
+     */
+    public ArrayList<Object> getAllUsernames() {
+        if (allUsernames == null) {
+            allUsernames = new ArrayList<>();
+            addUsernames(NormalUsersLibrary.getInstance().getItems());
+            addUsernames(ArtistsLibrary.getInstance().getItems());
+            addUsernames(HostsLibrary.getInstance().getItems());
+        }
+        return new ArrayList<>(allUsernames);
+    }
+
+    /**
+     * Adds the names of the given users to the cached usernames list
+     *
+     * @param users The users whose names are added
+     */
+    private void addUsernames(final ArrayList<? extends User> users) {
+        if (users == null) {
+            return;
+        }
+        for (User user : users) {
+            allUsernames.add(user.getName());
+        }
+    }
+
+    /**
+     * Entry in the users directory
+     *
+     * @param user The user
+     * @param type The type of the user
+     */
+    private record DirectoryEntry(User user, UserType type) {
+    }
+}
@@ -5,6 +5,7 @@ import entities.user.Artist;
 import entities.user.Host;
 import entities.user.NormalUser;
 import entities.user.User;
+import entities.user.UserType;
 
 import java.util.ArrayList;
 
@@ -16,31 +17,10 @@ public final class UsersLibrariesStats {
      * Checks if the specified user exists (in any user library aka hosts, normal suers, artists)
      *
      * @param username The name of the user to search for
-     * @return The user or {@code null} if it wasn't found
+     * @return {@code true} if the user exists, {@code false} otherwise
      */
     public static boolean userExists(final String username) {
-        for (NormalUser normalUser : NormalUsersLibrary.getInstance().getItems()) {
-            if (normalUser.getName().equals(username)) {
-                return true;
-            }
-        }
-        ArrayList<Artist> artists = ArtistsLibrary.getInstance().getItems();
-        if (artists != null) {
-            for (Artist artist : artists) {
-                if (artist.getName().equals(username)) {
-                    return true;
-                }
-            }
-        }
-        ArrayList<Host> hosts = HostsLibrary.getInstance().getItems();
-        if (hosts != null) {
-            for (Host host : hosts) {
-                if (host.getName().equals(username)) {
-                    return true;
-                }
-            }
-        }
-        return false;
+        return UsersDirectory.getInstance().userExists(username);
     }
 
     /**
@@ -49,43 +29,30 @@ public final class UsersLibrariesStats {
      * @return The list of users
      */
     public static ArrayList<Object> getAllUsers() {
-        ArrayList<Object> userNames = new ArrayList<>();
-        userNames.addAll(NormalUsersLibrary.getInstance()
-                .getItems()
-                .stream()
-                .map(User::getName)
-                .toList());
-        userNames.addAll(ArtistsLibrary.getInstance()
-                .getItems()
-                .stream()
-                .map(Artist::getName)
-                .toList());
-        userNames.addAll(HostsLibrary.getInstance()
-                .getItems()
-                .stream()
-                .map(Host::getName)
-                .toList());
-        return userNames;
+        return UsersDirectory.getInstance().getAllUsernames();
     }
 
     /**
      * Retrieves a entities.user by their username.
-     * This method searches for the entities.user in different entities.user libraries,
-     * including normal users, artists, and hosts.
+     * This method searches for the entities.user in the users directory, that
+     * includes normal users, artists, and hosts.
      *
      * @param username The username of the entities.user to retrieve.
      * @return The entities.user with the specified username, or null if not found.
      */
     public static User getUserByName(final String username) {
-        User normalUser = NormalUsersLibrary.getInstance().getUserByName(username);
-        if (normalUser != null) {
-            return normalUser;
-        }
-        User artist = ArtistsLibrary.getInstance().getArtistByName(username);
-        if (artist != null) {
-            return artist;
-        }
-        return HostsLibrary.getInstance().getHostByName(username);
+        return UsersDirectory.getInstance().getUserByName(username);
+    }
+
+    /**
+     * Retrieves the type of the user with the specified username
+     *
+     * @param username The username of the user
+     * @return The type of the user (normal user, artist or host), or null if not found.
+     * @see UserType
+     */
+    public static UserType getUserType(final String username) {
+        return UsersDirectory.getInstance().getUserType(username);
     }
 
     /**
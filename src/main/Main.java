@@ -13,6 +13,7 @@ import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import commands.CommandType;
 import commands.admin.End;
+import commands.normalUser.searchBar.SearchCache;
 import fileio.input.CommandInput;
 import fileio.input.LibraryInput;
 import fileio.output.Output;
@@ -27,6 +28,9 @@ import libraries.users.NormalUsersLibrary;
 import managers.TimeManager;
 import managers.commands.CommandHandler;
 import managers.commands.CommandManagerFactory;
+import recommendation.RecommendationCandidates;
+import statistics.listenTrackers.ListenEventLog;
+import statistics.listenTrackers.NameIds;
 import entities.user.NormalUser;
 
 import java.io.File;
@@ -120,6 +124,7 @@ public final class Main {
             TimeManager.getInstance().setTime(command.getTimestamp());
             CommandType commandType = command.getCommand();
             String username = command.getUsername();
+            CommandManagerFactory.synchronizeTime(commandType, username);
 
             if (commandType.equals(CommandType.printCurrentPage)) {
                 NormalUser user = NormalUsersLibrary.getInstance().getUserByName(username);
@@ -147,10 +152,14 @@ public final class Main {
 
     /**
      * Resets or sets the libraries in the application.
+     * The searches made on the previous libraries are no longer reused.
      *
      * @param library The source library containing initial data.
      */
     public static void resetLibraries(final LibraryInput library) {
+        ListenEventLog.getInstance().reset();
+        NameIds.getInstance().reset();
+        RecommendationCandidates.getInstance().reset();
         resetSongs(library);
         resetPodcasts(library);
         resetPlaylists();
@@ -158,6 +167,7 @@ public final class Main {
         resetAlbums();
         resetArtists();
         resetHosts();
+        SearchCache.getInstance().bumpCatalogVersion();
     }
 
     /**
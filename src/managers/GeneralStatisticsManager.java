@@ -4,6 +4,7 @@ import entities.audio.Song;
 import entities.audio.collections.Album;
 import entities.audio.collections.Playlist;
 import commands.CommandType;
+import commands.admin.End;
 import fileio.input.CommandInput;
 import fileio.output.Output;
 import libraries.audio.AlbumsLibrary;
@@ -16,7 +17,6 @@ import managers.commands.CommandHandler;
 import entities.user.Artist;
 
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -105,12 +105,7 @@ public final class GeneralStatisticsManager implements CommandHandler {
      * @return An Output object containing the result of the operation (list of top 5 albums).
      */
     public static Output performGetTop5Albums(final CommandInput command) {
-        ArrayList<Album> albums = AlbumsLibrary.getInstance().getItems();
-        List<Album> top5Albums = albums.stream()
-                .sorted(Comparator.comparingInt(Album::getTotalLikes).reversed()
-                        .thenComparing(Album::getName))
-                .limit(NUMBER_TOP_RESULTS)
-                .toList();
+        List<Album> top5Albums = AlbumsLibrary.getInstance().getTopAlbums(NUMBER_TOP_RESULTS);
         ArrayList<Object> result = top5Albums.stream()
                 .map(Album::getName)
                 .collect(Collectors.toCollection(ArrayList::new));
@@ -125,18 +120,26 @@ public final class GeneralStatisticsManager implements CommandHandler {
      * @return An Output object containing the result of the operation (list of top 5 artists).
      */
     public static Output performGetTop5Artists(final CommandInput command) {
-        ArrayList<Artist> artists = ArtistsLibrary.getInstance().getItems();
-        List<Artist> top5Artists = artists.stream()
-                .sorted(Comparator.comparingInt(Artist::getTotalLikes).reversed()
-                        .thenComparing(Artist::getName))
-                .limit(NUMBER_TOP_RESULTS)
-                .toList();
+        List<Artist> top5Artists = ArtistsLibrary.getInstance()
+                .getTopArtists(NUMBER_TOP_RESULTS);
         ArrayList<Object> result = top5Artists.stream()
                 .map(Artist::getName)
                 .collect(Collectors.toCollection(ArrayList::new));
         return new Output(command, result);
     }
 
+    /**
+     * Performs the get revenue command, retrieving the revenue made so far by the listened
+     * artists (the listens of the users aren't paid yet, unlike at the end of the program)
+     *
+     * @param command The input command, which may contain additional parameters.
+     * @return An Output object containing the result of the operation (stats by artist).
+     */
+    public static Output performGetRevenue(final CommandInput command) {
+        ArrayList<Artist> artists = new ArrayList<>(ArtistsLibrary.getInstance().getItems());
+        return new Output(command, End.revenueStats(artists));
+    }
+
     @Override
     public Output performCommand(final CommandInput command) {
         CommandType commandType = command.getCommand();
@@ -148,6 +151,7 @@ public final class GeneralStatisticsManager implements CommandHandler {
             case getAllUsers -> performGetAllUsers(command);
             case getTop5Albums -> performGetTop5Albums(command);
             case getTop5Artists -> performGetTop5Artists(command);
+            case getRevenue -> performGetRevenue(command);
             default -> throw new IllegalStateException("Unexpected command for "
                     + this.getClass().getSimpleName() + ": " + commandType);
         };
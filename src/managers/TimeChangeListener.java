@@ -10,4 +10,18 @@ public interface TimeChangeListener {
      * @param timeDifference the difference in time between old timestamp and new timestamp
      */
     void onTimeChanged(int timeDifference);
+
+    /**
+     * Applies, in order, all the time changes the listener missed since it was last advanced
+     */
+    void catchUpTime();
+
+    /**
+     * Checks if the listener must be advanced on every time change, instead of only when
+     * it's touched (while its time changes affect the other listeners in order)
+     *
+     * @return {@code true} if it follows every time change, {@code false} otherwise
+     * @see TimeManager#followEveryChange(TimeChangeListener)
+     */
+    boolean followsEveryChange();
 }
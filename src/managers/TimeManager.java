@@ -8,10 +8,25 @@ import java.util.ArrayList;
  * Class for time management
  */
 public final class TimeManager {
+    private static final int INITIAL_STEPS_CAPACITY = 1024;
     private static TimeManager instance = null;
     @Getter
     private int currentTime = 0;
     private final ArrayList<TimeChangeListener> timeChangeListeners = new ArrayList<>();
+    /**
+     * The listeners that follow every time change, in the order they were added
+     * (the others aren't notified on every time change: the time differences are recorded
+     * instead, and every listener replays the ones it missed when it is touched)
+     */
+    private final ArrayList<TimeChangeListener> followingListeners = new ArrayList<>();
+    /**
+     * The time differences of the steps that may still be replayed
+     * (the first one is the difference of the step {@code firstStep})
+     */
+    private int[] timeDifferences = new int[INITIAL_STEPS_CAPACITY];
+    private int firstStep = 0;
+    @Getter
+    private int stepsCount = 0;
 
     private TimeManager() { }
 
@@ -38,13 +53,79 @@ public final class TimeManager {
 
     /**
      * Sets the current time to the timestamp of a command
+     * The time difference is recorded as a new step and the listeners that follow every
+     * time change are advanced right away, in the order they were added
+     * When there's no room left for the step, all the listeners are brought up to date
+     * first, so the steps recorded before can be dropped
      *
      * @param timeStamp the time to be set
      */
     public synchronized void setTime(final int timeStamp) {
         int timeDifference = timeStamp - currentTime;
         this.currentTime = timeStamp;
-        notifyTimeChangeListeners(timeDifference);
+        if (stepsCount - firstStep == timeDifferences.length) {
+            catchUpAllListeners();
+        }
+        timeDifferences[stepsCount - firstStep] = timeDifference;
+        stepsCount++;
+        for (TimeChangeListener listener : followingListeners) {
+            listener.catchUpTime();
+        }
+        followingListeners.removeIf(listener -> !listener.followsEveryChange());
+    }
+
+    /**
+     * Gets the time difference recorded at the specified step
+     *
+     * @param step the index of the step (one step for every {@code setTime} call)
+     * @return the time difference
+     */
+    public int getTimeDifference(final int step) {
+        return timeDifferences[step - firstStep];
+    }
+
+    /**
+     * Makes a listener follow every time change, for as long as it asks for it
+     * (the listener must be up to date with the current time)
+     *
+     * @param listener the listener
+     * @see TimeChangeListener#followsEveryChange()
+     */
+    public synchronized void followEveryChange(final TimeChangeListener listener) {
+        if (followingListeners.contains(listener)) {
+            return;
+        }
+        int order = timeChangeListeners.indexOf(listener);
+        int index = 0;
+        while (index < followingListeners.size()
+                && timeChangeListeners.indexOf(followingListeners.get(index)) < order) {
+            index++;
+        }
+        followingListeners.add(index, listener);
+    }
+
+    /**
+     * Brings a listener up to date with the current time
+     *
+     * @param listener the listener to be advanced
+     */
+    public void catchUpListener(final TimeChangeListener listener) {
+        listener.catchUpTime();
+    }
+
+    /**
+     * Brings all the listeners up to date with the current time and drops the recorded
+     * steps, since no listener needs them anymore
+     * Used before the commands that read (or change) state shared between the users
+     * The listeners are advanced one at a time: only the ones that follow every time change
+     * change state shared with the others in an order that matters (paying for an ad),
+     * and they're always up to date
+     */
+    public synchronized void catchUpAllListeners() {
+        for (TimeChangeListener listener : timeChangeListeners) {
+            listener.catchUpTime();
+        }
+        firstStep = stepsCount;
     }
 
     /**
@@ -61,16 +142,6 @@ public final class TimeManager {
      */
     public synchronized void removeTimeChangeListener(final TimeChangeListener listener) {
         timeChangeListeners.remove(listener);
-    }
-
-    /**
-     * Notify all time change listeners with the time difference
-     *
-     * @param timeDifference the difference between the old time and the new current time
-     */
-    private synchronized void notifyTimeChangeListeners(final int timeDifference) {
-        for (TimeChangeListener listener : timeChangeListeners) {
-            listener.onTimeChanged(timeDifference);
-        }
+        followingListeners.remove(listener);
     }
 }
@@ -3,6 +3,7 @@ package managers.commands;
 import commands.CommandType;
 import libraries.users.NormalUsersLibrary;
 import managers.GeneralStatisticsManager;
+import managers.TimeManager;
 import managers.UserCommandManager;
 import managers.admin.AdminCommandManager;
 import managers.artist.ArtistCommandManager;
@@ -31,7 +32,7 @@ public final class CommandManagerFactory {
                                                final String username) {
         return switch (commandType) {
             case getTop5Playlists, getTop5Songs, getOnlineUsers, getAllUsers, getTop5Albums,
-                    getTop5Artists
+                    getTop5Artists, getRevenue
                     -> GeneralStatisticsManager.getInstance();
             case addUser, deleteUser, showPodcasts, showAlbums, buyPremium, cancelPremium,
                     adBreak
@@ -67,4 +68,34 @@ public final class CommandManagerFactory {
             }
         };
     }
+
+    /**
+     * Brings the players touched by the specified command up to date with the current time
+     * Commands that only use the state of their own user advance just that user's player,
+     * the ones that don't depend on playing at all advance nothing, and all the others
+     * (that read or change state shared between users) advance every player
+     *
+     * @param commandType The type of command that's about to be handled.
+     * @param username    The username associated with the command.
+     */
+    public static void synchronizeTime(final CommandType commandType, final String username) {
+        TimeManager timeManager = TimeManager.getInstance();
+        switch (commandType) {
+            case getTop5Playlists, getTop5Songs, getOnlineUsers, getAllUsers, getTop5Albums,
+                    getTop5Artists, showPodcasts, showAlbums, addEvent, addMerch, removeEvent,
+                    addAnnouncement, removeAnnouncement -> {
+            }
+            case search, select, addRemoveInPlaylist, backward, forward, like, load, next, prev,
+                    repeat, status, shuffle, playPause, switchVisibility, loadRecommendations,
+                    createPlaylist, showPlaylists, follow, showPreferredSongs, printCurrentPage,
+                    switchConnectionStatus, changePage, subscribe, previousPage, nextPage,
+                    getNotifications, buyMerch, seeMerch, buyPremium, cancelPremium, adBreak -> {
+                NormalUser user = NormalUsersLibrary.getInstance().getUserByName(username);
+                if (user != null) {
+                    user.catchUpTime();
+                }
+            }
+            default -> timeManager.catchUpAllListeners();
+        }
+    }
 }
@@ -2,6 +2,7 @@ package managers.normalUser;
 
 import commands.normalUser.pageNavigation.Page;
 import commands.normalUser.pageNavigation.PageType;
+import entities.user.NormalUser;
 import lombok.Getter;
 import statistics.listenTrackers.ListenTrackerNormalUser;
 
@@ -12,13 +13,14 @@ public final class AppManager {
     private final CommandManager commandManager = new CommandManager(this);
     private final PlayerManager playerManager = new PlayerManager(this);
     private final SearchBarManager searchBarManager = new SearchBarManager(this);
-    private final ListenTrackerNormalUser listenTracker = new ListenTrackerNormalUser();
+    private final ListenTrackerNormalUser listenTracker;
     private Page page = new Page(PageType.homePage, null);
     private AppStatus status = AppStatus.online;
     private boolean premium;
 
-    public AppManager(final String username) {
-        this.userOfflineMessage = username + " is offline.";
+    public AppManager(final NormalUser user) {
+        this.userOfflineMessage = user.getName() + " is offline.";
+        this.listenTracker = new ListenTrackerNormalUser(user);
     }
 
     public void setStatus(final AppStatus status) {
@@ -53,6 +53,10 @@ public final class PlayerManager implements TimeChangeListener, CommandHandler {
     @Getter
     private Integer adPrice = 0;
     private int adRemainedTime = 0;
+    /**
+     * Number of time steps (recorded by the time manager) already applied to this player
+     */
+    private int syncedSteps;
     /**
      * -- GETTER --
      * Gets the current status of player
@@ -74,6 +78,7 @@ public final class PlayerManager implements TimeChangeListener, CommandHandler {
         this.app = parentApp;
         this.commandManager = app.getCommandManager();
         TimeManager.getInstance().addTimeChangeListener(this);
+        syncedSteps = TimeManager.getInstance().getStepsCount();
         calculator = new RevenueCalculator();
     }
 
@@ -92,8 +97,7 @@ public final class PlayerManager implements TimeChangeListener, CommandHandler {
         if (playingAudio == null) {
             return;
         }
-        Map<StatusFields, Object> stats = getPlayingAudio().getStats();
-        int remainedTime = (int) stats.get(StatusFields.remainedTime);
+        int remainedTime = playingAudio.getRemainedTime();
 
         if (!adBreak || timeDifference < remainedTime) {
             onTimeChangedHelper(timeDifference);
@@ -118,6 +122,51 @@ public final class PlayerManager implements TimeChangeListener, CommandHandler {
         onTimeChangedHelper(timeDiffRemainedTime - adDuration + 1);
     }
 
+    /**
+     * Replays, one by one, the time steps missed since the player was last advanced
+     * The steps are applied exactly as they would have been on every time change,
+     * but the ones that can't change the player (offline user, nothing playing
+     * or a paused track with time left and no ad) are skipped
+     */
+    @Override
+    public void catchUpTime() {
+        TimeManager timeManager = TimeManager.getInstance();
+        int stepsCount = timeManager.getStepsCount();
+        while (syncedSteps < stepsCount && !isStalled()) {
+            syncedSteps++;
+            onTimeChanged(timeManager.getTimeDifference(syncedSteps - 1));
+        }
+        syncedSteps = stepsCount;
+    }
+
+    /**
+     * A player in an ad break pays for the ad when the break ends, so it follows every time
+     * change until then (the ads are paid in the order they end, as the revenue of the
+     * songs is shared between the users)
+     *
+     * @return {@code true} during an ad break, {@code false} otherwise
+     */
+    @Override
+    public boolean followsEveryChange() {
+        return adBreak;
+    }
+
+    /**
+     * Checks if the time passing can't change the player's state until the next command
+     *
+     * @return {@code true} if the player is stalled, {@code false} otherwise
+     */
+    private boolean isStalled() {
+        if (!app.isOnline() || playingAudio == null) {
+            return true;
+        }
+        if (adBreak || !playingAudio.isPaused() || playingAudio.getRemainedTime() <= 0) {
+            return false;
+        }
+        return playingCollection == null || !playingCollection.isFinished()
+                && playingCollection.getPlayingNowObject() == playingAudio;
+    }
+
     /**
      * Method that's used for implementing some of timeChanged logic
      * (to avoid recursive method)
@@ -125,12 +174,8 @@ public final class PlayerManager implements TimeChangeListener, CommandHandler {
      * @param timeDifference The time passed that should be added
      */
     public void onTimeChangedHelper(final int timeDifference) {
-        if (playingAudio != null) {
-            Map<StatusFields, Object> stats = playingAudio.getStats();
-            int remainedTime = (int) stats.get(StatusFields.remainedTime);
-            if (remainedTime > 0) {
-                decrementLoadedCountForAudio();
-            }
+        if (playingAudio != null && playingAudio.getRemainedTime() > 0) {
+            decrementLoadedCountForAudio();
         }
         if (playingCollection != null) {
             playingCollection.addTimePassed(timeDifference);
@@ -148,9 +193,7 @@ public final class PlayerManager implements TimeChangeListener, CommandHandler {
         }
         if (playingAudio != null) {
             playingAudio.addTimePassed(timeDifference);
-            Map<StatusFields, Object> stats = playingAudio.getStats();
-            int remainedTime = (int) stats.get(StatusFields.remainedTime);
-            if (remainedTime > 0) {
+            if (playingAudio.getRemainedTime() > 0) {
                 incrementLoadedCountForAudio();
             } else {
                 playingAudio = null;
@@ -260,14 +303,10 @@ public final class PlayerManager implements TimeChangeListener, CommandHandler {
      */
     public Output performStatus(final CommandInput command) {
         Map<StatusFields, Object> stats;
-        if (playingAudio == null) {
+        if (playingAudio == null || playingAudio.getRemainedTime() == 0) {
             stats = getEmptyStats();
         } else {
             stats = playingAudio.getStats();
-            int remainedTime = (int) stats.get(StatusFields.remainedTime);
-            if (remainedTime == 0) {
-                stats = getEmptyStats();
-            }
         }
         return new Output(command, stats);
     }
@@ -540,12 +579,15 @@ public final class PlayerManager implements TimeChangeListener, CommandHandler {
 
     /**
      * Inserts an ad
+     * The player must be up to date with the current time, since it follows every time
+     * change from now on, until the ad break ends
      */
     public void insertAd(final int price) {
         if (!app.isPremium()) {
             adBreak = true;
             this.adPrice = price;
             adRemainedTime = adDuration;
+            TimeManager.getInstance().followEveryChange(this);
         }
     }
 
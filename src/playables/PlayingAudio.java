@@ -1,7 +1,6 @@
 package playables;
 
 import entities.audio.Audio;
-import entities.audio.Episode;
 import entities.audio.Song;
 import commands.normalUser.player.RepeatType;
 import commands.normalUser.player.StatusFields;
@@ -12,38 +11,53 @@ import libraries.users.ArtistsLibrary;
 import entities.user.Artist;
 import entities.user.NormalUser;
 import libraries.users.HostsLibrary;
-import lombok.Getter;
+import managers.CheckClass;
+import statistics.listenTrackers.ListenAggregator;
 
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Objects;
 
 public final class PlayingAudio<T extends Audio> implements Playing {
     private T playingObject;
-    /**
-     * -- GETTER --
-     *  Gets the stats for the playing object
-     *
-     * @return the stats
-     */
-    @Getter
-    private Map<StatusFields, Object> stats;
+    private int remainedTime;
+    private RepeatType repeat;
+    private boolean shuffle;
+    private boolean paused;
     private final Artist artist;
     private final Host host;
     private NormalUser user;
     private final Album album;
     public PlayingAudio(final T playingObject, final NormalUser user) {
+        this(playingObject, user, ArtistsLibrary.getInstance()
+                        .getArtistByName(playingObject.getOwner()),
+                HostsLibrary.getInstance().getHostByName(playingObject.getOwner()));
+    }
+
+    private PlayingAudio(final T playingObject, final NormalUser user,
+                         final Artist artist, final Host host) {
+        this(playingObject, user, artist, host, artist == null ? null
+                : AlbumsLibrary.getInstance().getAlbumByName(((Song) playingObject).getAlbum()));
+    }
+
+    /**
+     * Creates the playing audio with the owners already resolved
+     * (used by the collections, that resolve them once for all their tracks)
+     *
+     * @param playingObject The audio file to be played
+     * @param user          The user that plays the audio file
+     * @param artist        The artist that owns the audio file (or {@code null})
+     * @param host          The host that owns the audio file (or {@code null})
+     * @param album         The album of the song (or {@code null} if there is no artist)
+     */
+    public PlayingAudio(final T playingObject, final NormalUser user,
+                        final Artist artist, final Host host, final Album album) {
         setPlayingObject(playingObject);
         initStatsDefault();
         this.user = user;
-        this.artist = ArtistsLibrary.getInstance().getArtistByName(playingObject.getOwner());
-        if (artist != null) {
-            Song song = (Song) playingObject;
-            String albumName = song.getAlbum();
-            album = AlbumsLibrary.getInstance().getAlbumByName(albumName);
-        } else {
-            album = null;
-        }
-        this.host = HostsLibrary.getInstance().getHostByName(playingObject.getOwner());
+        this.artist = artist;
+        this.host = host;
+        this.album = album;
     }
 
     /**
@@ -65,24 +79,29 @@ public final class PlayingAudio<T extends Audio> implements Playing {
     }
 
     /**
-     * Sets the stats for the playing object
+     * Gets the stats for the playing object
+     * (a new map is built on every call, it's only needed for the output)
      *
-     * @param stats the stats to be set
+     * @return the stats
      */
-    public void setStats(final Map<StatusFields, Object> stats) {
-        this.stats = stats;
+    public Map<StatusFields, Object> getStats() {
+        Map<StatusFields, Object> stats = new LinkedHashMap<>();
+        stats.put(StatusFields.name, playingObject.getName());
+        stats.put(StatusFields.remainedTime, remainedTime);
+        stats.put(StatusFields.repeat, repeat.getValue());
+        stats.put(StatusFields.shuffle, shuffle);
+        stats.put(StatusFields.paused, paused);
+        return stats;
     }
 
     /**
      * Initialize the stats for a playing entities.audio to the default values
      */
     public void initStatsDefault() {
-        stats = new LinkedHashMap<>();
-        stats.put(StatusFields.name, playingObject.getName());
-        stats.put(StatusFields.remainedTime, playingObject.getDuration());
-        stats.put(StatusFields.repeat, RepeatType.noRepeat.getValue());
-        stats.put(StatusFields.shuffle, false);
-        stats.put(StatusFields.paused, false);
+        remainedTime = playingObject.getDuration();
+        repeat = RepeatType.noRepeat;
+        shuffle = false;
+        paused = false;
     }
 
     /**
@@ -95,42 +114,22 @@ public final class PlayingAudio<T extends Audio> implements Playing {
      */
     @Override
     public void addTimePassed(final int timePassed) {
-        if ((boolean) stats.get(StatusFields.paused)) {
+        if (paused) {
             return;
         }
-        int remainedTime = (int) stats.get(StatusFields.remainedTime);
         int newRemainedTime = remainedTime - timePassed;
         int duration = playingObject.getDuration();
-        if (getRepeatValue().equals(RepeatType.repeatOnce.getValue())) {
+        if (repeat == RepeatType.repeatOnce) {
             if (newRemainedTime < 0) {
                 newRemainedTime = Math.max(newRemainedTime + duration, 0);
                 setRepeatValue(RepeatType.noRepeat);
 
-                playingObject.addListen(user.getApp().getListenTracker());
-                if (artist != null) {
-                    Song song = (Song) playingObject;
-                    String albumName = song.getAlbum();
-                    Album songAlbum = AlbumsLibrary.getInstance().getAlbumByName(albumName);
-                    artist.getListenTracker().addListenAll(songAlbum, song, user);
-                } else if (host != null) {
-                    host.getListenTracker().addListenAll((Episode) playingObject, user);
-                }
+                addListens(1, artist != null && album == null ? null : ownerTracker());
             }
-        } else if (getRepeatValue().equals(RepeatType.repeatInfinite.getValue())
-                || getRepeatValue().equals(RepeatType.repeatCurrent.getValue())) {
+        } else if (repeat == RepeatType.repeatInfinite || repeat == RepeatType.repeatCurrent) {
             if (newRemainedTime < 0) {
-
-                playingObject.addListen(user.getApp().getListenTracker(),
-                        (newRemainedTime / duration));
-                if (artist != null) {
-                    artist.getListenTracker()
-                            .addListenAll(album,
-                                    (Song) playingObject,
-                                    user,
-                                    newRemainedTime / duration);
-                } else if (host != null) {
-                    host.getListenTracker()
-                            .addListenAll((Episode) playingObject, user);
+                if (CheckClass.isSong(playingObject.getClass())) {
+                    addListens(newRemainedTime / duration, ownerTracker());
                 }
                 newRemainedTime = (newRemainedTime % duration + duration) % duration;
 
@@ -138,18 +137,47 @@ public final class PlayingAudio<T extends Audio> implements Playing {
         } else {
             newRemainedTime = Math.max(newRemainedTime, 0);
         }
-        stats.put(StatusFields.remainedTime, newRemainedTime);
+        remainedTime = newRemainedTime;
         checkIfTrackFinished();
     }
 
+    /**
+     * Adds the specified number of listens for the track, in the user's listen tracker and
+     * in the listen tracker of its artist (with its album) or host
+     * (the album isn't counted for the user, who didn't load it)
+     * The song of an artist must have its album in the library: it fails after the listens
+     * were added
+     *
+     * @param count the number of listens
+     * @param owner the listen trackers credited (or {@code null})
+     */
+    private void addListens(final int count, final ListenAggregator owner) {
+        user.getApp().getListenTracker().addListen(playingObject, count, album, false, owner);
+        if (artist != null) {
+            Objects.requireNonNull(album);
+        }
+    }
+
+    /**
+     * Gets the listen trackers of the artist or host of the track
+     *
+     * @return the trackers (or {@code null} if the track doesn't have an artist or a host)
+     */
+    private ListenAggregator ownerTracker() {
+        if (artist != null) {
+            return artist.getListenTracker();
+        }
+        return host == null ? null : host.getListenTracker();
+    }
+
     /**
      * Checks if the track finished playing
      * If the track finished playing, pause it
      * Must be used after the remaining time is updated
      */
     private void checkIfTrackFinished() {
-        if ((int) stats.get(StatusFields.remainedTime) == 0) {
-            stats.put(StatusFields.paused, true);
+        if (remainedTime == 0) {
+            paused = true;
         }
     }
 
@@ -158,8 +186,8 @@ public final class PlayingAudio<T extends Audio> implements Playing {
      * no repeat for the repeat value)
      */
     public void skipToEnd() {
-        stats.put(StatusFields.repeat, RepeatType.noRepeat.getValue());
-        stats.put(StatusFields.remainedTime, 0);
+        repeat = RepeatType.noRepeat;
+        remainedTime = 0;
         checkIfTrackFinished();
     }
 
@@ -167,33 +195,34 @@ public final class PlayingAudio<T extends Audio> implements Playing {
      * Pauses the track
      */
     public void pause() {
-        stats.put(StatusFields.paused, true);
+        paused = true;
     }
 
     /**
      * Resumes the track
      */
     public void resume() {
-        stats.put(StatusFields.paused, false);
+        paused = false;
     }
 
     /**
-     * Gets the repeat value for the current track
+     * Gets the repeat type for the current track
      *
-     * @return the repeat value
+     * @return the repeat type
+     * @see RepeatType
      */
-    public String getRepeatValue() {
-        return (String) stats.get(StatusFields.repeat);
+    public RepeatType getRepeatType() {
+        return repeat;
     }
 
     /**
      * Sets the repeat value for the current track
      *
-     * @param repeatType The repeat type to be set (that's converted to String)
+     * @param repeatType The repeat type to be set
      * @see RepeatType
      */
     public void setRepeatValue(final RepeatType repeatType) {
-        stats.put(StatusFields.repeat, repeatType.getValue());
+        repeat = repeatType;
     }
 
     /**
@@ -202,7 +231,7 @@ public final class PlayingAudio<T extends Audio> implements Playing {
      * @return the remained time
      */
     public int getRemainedTime() {
-        return (int) stats.get(StatusFields.remainedTime);
+        return remainedTime;
     }
 
     /**
@@ -219,8 +248,7 @@ public final class PlayingAudio<T extends Audio> implements Playing {
      * (sets it to the value of the total duration of the track)
      */
     public void resetRemainedTime() {
-        int duration = getDuration();
-        stats.put(StatusFields.remainedTime, duration);
+        remainedTime = getDuration();
     }
 
     /**
@@ -230,7 +258,7 @@ public final class PlayingAudio<T extends Audio> implements Playing {
      * @param shuffle the shuffle value to be set (true or false)
      */
     public void setShuffle(final boolean shuffle) {
-        stats.put(StatusFields.shuffle, shuffle);
+        this.shuffle = shuffle;
     }
 
     /**
@@ -258,8 +286,7 @@ public final class PlayingAudio<T extends Audio> implements Playing {
      * @param forwardTime
      */
     public void addForwardTime(final int forwardTime) {
-        int remainedTime = (int) stats.get(StatusFields.remainedTime);
-        stats.put(StatusFields.remainedTime, remainedTime - forwardTime);
+        remainedTime -= forwardTime;
     }
 
     /**
@@ -269,8 +296,7 @@ public final class PlayingAudio<T extends Audio> implements Playing {
      * @param backwardTime
      */
     public void addBackwardTime(final int backwardTime) {
-        int remainedTime = (int) stats.get(StatusFields.remainedTime);
-        stats.put(StatusFields.remainedTime, remainedTime + backwardTime);
+        remainedTime += backwardTime;
     }
 
     /**
@@ -279,7 +305,7 @@ public final class PlayingAudio<T extends Audio> implements Playing {
      * @return {@code true} if the track is paused, {@code false} otherwise
      */
     public boolean isPaused() {
-        return (boolean) stats.get(StatusFields.paused);
+        return paused;
     }
 
     public void setUser(final NormalUser user) {
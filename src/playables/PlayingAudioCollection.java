@@ -1,46 +1,146 @@
 package playables;
 
 import entities.audio.Audio;
-import entities.audio.Episode;
 import entities.audio.Song;
 import entities.audio.collections.Album;
 import entities.audio.collections.Collection;
+import entities.audio.collections.Playlist;
 import commands.normalUser.player.RepeatType;
-import commands.normalUser.player.StatusFields;
 import entities.user.Host;
+import libraries.audio.AlbumsLibrary;
 import libraries.users.ArtistsLibrary;
 import entities.user.Artist;
 import entities.user.NormalUser;
 import libraries.users.HostsLibrary;
+import managers.CheckClass;
+import statistics.listenTrackers.ListenAggregator;
 
-import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 public final class PlayingAudioCollection<T extends Collection<? extends Audio>>
         implements Playing {
     private final T playingCollection;
-    private final ArrayList<PlayingAudio<? extends Audio>> playableObjects;
+    /**
+     * The tracks as they were when the collection was loaded
+     * (a playlist copies its songs before it's changed, so they aren't copied here)
+     */
+    private final List<? extends Audio> tracks;
+    /**
+     * Playing state for the tracks that were current at least once, by their index
+     * The other tracks are in the default state: from the beginning, with the
+     * collection's shuffle flag and the repeat type set for all the tracks
+     */
+    private final HashMap<Integer, PlayingAudio<? extends Audio>> playableObjects =
+            new HashMap<>();
+    private RepeatType tracksRepeatType = RepeatType.noRepeat;
+    /**
+     * The artists, hosts and albums of the tracks, resolved (by name) the first time a track
+     * of theirs is played and then shared by all the tracks
+     * (they can't be deleted while the collection is loaded)
+     */
+    private final HashMap<String, Artist> tracksArtists = new HashMap<>();
+    private final HashMap<String, Host> tracksHosts = new HashMap<>();
+    private final HashMap<String, Album> tracksAlbums = new HashMap<>();
+    /**
+     * durationsPrefix[i] is the total duration of the first i tracks
+     * (computed the first time it's needed)
+     */
+    private int[] durationsPrefix = null;
     private int playingNowIndex = 0;
     private boolean repeatCollection = false;
     private boolean shuffleCollection = false;
-    private List<Integer> shuffledIndexes = null;
+    private ShuffledIndexes shuffledIndexes = null;
     private boolean finished = false;
     private final NormalUser user;
-    private final Artist artist;
-    private final Host host;
+    /**
+     * The listen trackers of the collection's owner (artist or host), credited for the
+     * listens of all the tracks ({@code null} for a playlist)
+     */
+    private final ListenAggregator ownerTracker;
 
 
     public PlayingAudioCollection(final Collection<? extends Audio> collection,
                                   final NormalUser user) {
         playingCollection = (T) collection;
-        playableObjects = new ArrayList<>();
-        for (Audio item : collection.getCollection()) {
-            playableObjects.add(new PlayingAudio<>(item, user));
+        if (CheckClass.isPlaylist(collection.getClass())) {
+            tracks = ((Playlist) collection).shareSongs();
+        } else {
+            tracks = collection.getCollection();
         }
         this.user = user;
-        artist = ArtistsLibrary.getInstance().getArtistByName(collection.getOwner());
-        host = HostsLibrary.getInstance().getHostByName(collection.getOwner());
+        Artist artist = ArtistsLibrary.getInstance().getArtistByName(collection.getOwner());
+        Host host = HostsLibrary.getInstance().getHostByName(collection.getOwner());
+        if (artist != null) {
+            ownerTracker = artist.getListenTracker();
+        } else {
+            ownerTracker = host == null ? null : host.getListenTracker();
+        }
+    }
+
+    /**
+     * Resolves the artist, the host and the album for a song of the collection
+     * (each name is searched only once in the libraries)
+     * The episodes don't have an owner of their own, so there is nothing to resolve for them
+     *
+     * @param item the track
+     */
+    private void resolveOwners(final Audio item) {
+        if (CheckClass.isPodcast(playingCollection.getClass())) {
+            return;
+        }
+        String owner = item.getOwner();
+        if (!tracksArtists.containsKey(owner)) {
+            tracksArtists.put(owner, ArtistsLibrary.getInstance().getArtistByName(owner));
+            tracksHosts.put(owner, HostsLibrary.getInstance().getHostByName(owner));
+        }
+        if (tracksArtists.get(owner) != null) {
+            String albumName = ((Song) item).getAlbum();
+            if (!tracksAlbums.containsKey(albumName)) {
+                tracksAlbums.put(albumName, AlbumsLibrary.getInstance().getAlbumByName(albumName));
+            }
+        }
+    }
+
+    /**
+     * Gets the playing state for the track at the specified index
+     * It's created (in the default state) the first time the track is needed
+     *
+     * @param index the index of the track
+     * @return the playing track
+     */
+    private PlayingAudio<? extends Audio> getPlayable(final int index) {
+        PlayingAudio<? extends Audio> playable = playableObjects.get(index);
+        if (playable == null) {
+            Audio item = tracks.get(index);
+            resolveOwners(item);
+            Artist trackArtist = tracksArtists.get(item.getOwner());
+            Album album = trackArtist == null ? null
+                    : tracksAlbums.get(((Song) item).getAlbum());
+            playable = new PlayingAudio<>(item, user, trackArtist,
+                    tracksHosts.get(item.getOwner()), album);
+            playable.setRepeatValue(tracksRepeatType);
+            playable.setShuffle(shuffleCollection);
+            playableObjects.put(index, playable);
+        }
+        return playable;
+    }
+
+    /**
+     * Gets the total duration of the first tracks
+     *
+     * @param count the number of tracks
+     * @return the duration
+     */
+    private int getDurationsPrefix(final int count) {
+        if (durationsPrefix == null) {
+            durationsPrefix = new int[tracks.size() + 1];
+            for (int index = 0; index < tracks.size(); index++) {
+                durationsPrefix[index + 1] = durationsPrefix[index]
+                        + tracks.get(index).getDuration();
+            }
+        }
+        return durationsPrefix[count];
     }
 
     /**
@@ -56,13 +156,13 @@ public final class PlayingAudioCollection<T extends Collection<? extends Audio>>
             replay(0);
             return;
         }
-        playableObjects.get(playingNowIndex).pause();
+        getPlayable(playingNowIndex).pause();
         int oldPlayingNowIndex = playingNowIndex;
         if (!isShuffled()) {
             playingNowIndex++;
         } else {
             int currentShuffledIndex = getCurrentShuffledIndex();
-            if (currentShuffledIndex >= playableObjects.size() - 1) {
+            if (currentShuffledIndex >= tracks.size() - 1) {
                 if (!repeatCollection) {
                     finished = true;
                     return;
@@ -73,12 +173,12 @@ public final class PlayingAudioCollection<T extends Collection<? extends Audio>>
             }
             playingNowIndex = getNextShuffledIndex(currentShuffledIndex);
         }
-        playableObjects.get(oldPlayingNowIndex).resetRemainedTime();
-        playableObjects.get(playingNowIndex).resume();
+        getPlayable(oldPlayingNowIndex).resetRemainedTime();
+        getPlayable(playingNowIndex).resume();
     }
 
     private boolean isNextPlayable() {
-        return !(!isShuffled() && playingNowIndex >= playableObjects.size() - 1);
+        return !(!isShuffled() && playingNowIndex >= tracks.size() - 1);
     }
 
     /**
@@ -90,7 +190,7 @@ public final class PlayingAudioCollection<T extends Collection<? extends Audio>>
         if (!isShuffled()) {
             return playingNowIndex;
         }
-        return shuffledIndexes.indexOf(playingNowIndex);
+        return shuffledIndexes.positionOf(playingNowIndex);
     }
 
     /**
@@ -153,15 +253,15 @@ public final class PlayingAudioCollection<T extends Collection<? extends Audio>>
             }
         }
         int oldPlayingNowIndex = playingNowIndex;
-        playableObjects.get(playingNowIndex).pause();
+        getPlayable(playingNowIndex).pause();
         if (!isShuffled()) {
             playingNowIndex--;
         } else {
             int currentShuffledIndex = getCurrentShuffledIndex();
             playingNowIndex = getPrevShuffledIndex(currentShuffledIndex);
         }
-        playableObjects.get(oldPlayingNowIndex).resetRemainedTime();
-        playableObjects.get(playingNowIndex).resume();
+        getPlayable(oldPlayingNowIndex).resetRemainedTime();
+        getPlayable(playingNowIndex).resume();
     }
 
     /**
@@ -170,8 +270,8 @@ public final class PlayingAudioCollection<T extends Collection<? extends Audio>>
      * @return The playable object
      */
     public PlayingAudio<? extends Audio> getPlayingNowObject() {
-        if (playableObjects != null) {
-            return playableObjects.get(playingNowIndex);
+        if (tracks != null) {
+            return getPlayable(playingNowIndex);
         }
         return null;
     }
@@ -180,34 +280,43 @@ public final class PlayingAudioCollection<T extends Collection<? extends Audio>>
      * Adds time passed for the collection
      * Adds the time passed for the current playing track and plays
      * the next track if necessary or stops the track if it's finished
+     * Whole tracks (and whole cycles of a playlist on repeat all) are skipped
+     * using the durations' prefix sums, but the listens are registered for each of them
      *
      * @param timePassed the time that has passed
      */
     public void addTimePassed(final int timePassed) {
-        if (playableObjects == null) {
-            return;
-        }
-        PlayingAudio<? extends Audio> playingNowObject = playableObjects.get(playingNowIndex);
-        Map<StatusFields, Object> stats = playingNowObject.getStats();
-        if ((boolean) stats.get(StatusFields.paused)) {
+        if (tracks == null) {
             return;
         }
-        int oldRemainedTime = (int) stats.get(StatusFields.remainedTime);
-        String oldRepeatValue = playingNowObject.getRepeatValue();
+        int timeLeft = timePassed;
+        boolean replayed = false;
+        while (!getPlayingNowObject().isPaused()) {
+            if (replayed) {
+                timeLeft = skipRepeatAllCycles(timeLeft);
+            }
+            timeLeft = skipWholeTracks(timeLeft);
 
-        playingNowObject.addTimePassed(timePassed);
-        if (oldRepeatValue.equals(RepeatType.repeatInfinite.getValue())
-                || oldRepeatValue.equals(RepeatType.repeatCurrent.getValue())) {
-            return;
-        }
+            PlayingAudio<? extends Audio> playingNowObject = getPlayingNowObject();
+            int oldRemainedTime = playingNowObject.getRemainedTime();
+            RepeatType oldRepeatType = playingNowObject.getRepeatType();
 
-        int remainder = oldRemainedTime - timePassed;
-        if (oldRepeatValue.equals(RepeatType.repeatOnce.getValue()) && remainder < 0) {
-            remainder += playingNowObject.getDuration();
-        }
+            playingNowObject.addTimePassed(timeLeft);
+            if (oldRepeatType == RepeatType.repeatInfinite
+                    || oldRepeatType == RepeatType.repeatCurrent) {
+                return;
+            }
 
-        int oldPlayingNowIndex = playingNowIndex;
-        if (remainder <= 0) {
+            int remainder = oldRemainedTime - timeLeft;
+            if (oldRepeatType == RepeatType.repeatOnce && remainder < 0) {
+                remainder += playingNowObject.getDuration();
+            }
+            if (remainder > 0) {
+                return;
+            }
+
+            int oldPlayingNowIndex = playingNowIndex;
+            replayed = false;
             if (isNextPlayable()) {
                 playNext();
             } else {
@@ -217,30 +326,173 @@ public final class PlayingAudioCollection<T extends Collection<? extends Audio>>
                         replay(shuffledIndexes.get(0));
                     } else {
                         replay(0);
+                        replayed = true;
                     }
                 } else {
                     setFinished(true);
                     pause();
                 }
             }
-            if (!finished) {
-                int newPlayingNowIndex = playingNowIndex;
-                if (oldPlayingNowIndex != newPlayingNowIndex) {
-                    getPlayingNowObject().getPlayingObject()
-                            .addListen(user.getApp().getListenTracker());
-                    playingCollection.addListen(user.getApp().getListenTracker());
-                    if (artist != null) {
-                        artist.getListenTracker().addListenAll((Album) playingCollection,
-                                (Song) getPlayingNowObject().getPlayingObject(),
-                                user);
-                    } else if (host != null) {
-                        Episode episode = (Episode) getPlayingNowObject().getPlayingObject();
-                        host.getListenTracker().addListenAll(episode, user);
-                    }
-                }
+            if (!finished && oldPlayingNowIndex != playingNowIndex) {
+                registerListens(playingNowIndex, 1);
+            }
+            timeLeft = -remainder;
+        }
+    }
+
+    /**
+     * Skips, in order, the tracks that would finish in the specified time, starting with
+     * the current one, and stops on the track where the time runs out
+     * (or on the last track, that decides if the collection is finished or replayed)
+     * Only the tracks that simply move on when they end (and, except the current one,
+     * are played from the beginning) can be skipped
+     * Must be used only if the current track isn't paused
+     *
+     * @param timeLeft the time that has passed
+     * @return the time left after the skipped tracks
+     */
+    private int skipWholeTracks(final int timeLeft) {
+        if (isShuffled()) {
+            return timeLeft;
+        }
+        int start = playingNowIndex;
+        PlayingAudio<? extends Audio> current = getPlayingNowObject();
+        if (!movesOnWhenFinished(current.getRepeatType())) {
+            return timeLeft;
+        }
+        int startOffset = getDurationsPrefix(start)
+                + current.getDuration() - current.getRemainedTime();
+        int target = upperBound(startOffset + timeLeft) - 1;
+        target = Math.min(target, tracks.size() - 1);
+        for (int index = start + 1; index < target; index++) {
+            if (!playsEntirely(index)) {
+                target = index;
+                break;
             }
-            addTimePassed(-remainder);
         }
+        if (target <= start) {
+            return timeLeft;
+        }
+
+        for (int index = start; index < target; index++) {
+            PlayingAudio<? extends Audio> skipped = playableObjects.get(index);
+            if (skipped != null) {
+                skipped.pause();
+                skipped.resetRemainedTime();
+            }
+            registerListens(index + 1, 1);
+        }
+        playingNowIndex = target;
+        getPlayingNowObject().resume();
+        return timeLeft - (getDurationsPrefix(target) - startOffset);
+    }
+
+    /**
+     * Skips the whole cycles of a playlist on repeat all that would be played in the
+     * specified time (a cycle ends in the same state it started: the first track playing,
+     * every other track paused from the beginning), adding the listens for all of them
+     * Must be used only right after the collection was replayed from the first track
+     *
+     * @param timeLeft the time that has passed
+     * @return the time left after the skipped cycles
+     */
+    private int skipRepeatAllCycles(final int timeLeft) {
+        int cycleDuration = getDurationsPrefix(tracks.size());
+        if (isShuffled() || !CheckClass.isPlaylist(playingCollection.getClass())
+                || cycleDuration == 0 || timeLeft < cycleDuration
+                || !movesOnWhenFinished(tracksRepeatType)) {
+            return timeLeft;
+        }
+        for (PlayingAudio<? extends Audio> playable : playableObjects.values()) {
+            if (!playsEntirely(playable)) {
+                return timeLeft;
+            }
+        }
+
+        int cycles = timeLeft / cycleDuration;
+        playableObjects.forEach((index, playable) -> {
+            if (index != 0) {
+                playable.pause();
+            }
+        });
+        if (tracks.size() > 1) {
+            for (int index = 0; index < tracks.size(); index++) {
+                registerListens(index, cycles);
+            }
+        }
+        return timeLeft - cycles * cycleDuration;
+    }
+
+    /**
+     * Checks if the track would be played from the beginning to the end and then moved on
+     *
+     * @param playable the track to be checked
+     * @return {@code true} if it's the case, {@code false} otherwise
+     */
+    private boolean playsEntirely(final PlayingAudio<? extends Audio> playable) {
+        return playable.getRemainedTime() == playable.getDuration()
+                && movesOnWhenFinished(playable.getRepeatType());
+    }
+
+    /**
+     * Checks if the track at the specified index would be played from the beginning
+     * to the end and then moved on (without creating its playing state)
+     *
+     * @param index the index of the track
+     * @return {@code true} if it's the case, {@code false} otherwise
+     */
+    private boolean playsEntirely(final int index) {
+        PlayingAudio<? extends Audio> playable = playableObjects.get(index);
+        if (playable == null) {
+            return movesOnWhenFinished(tracksRepeatType);
+        }
+        return playsEntirely(playable);
+    }
+
+    /**
+     * Checks if the collection moves on to the next track when a track with the specified
+     * repeat type finishes (the track isn't repeated by itself)
+     *
+     * @param repeatType the repeat type of the track
+     * @return {@code true} if it's the case, {@code false} otherwise
+     */
+    private boolean movesOnWhenFinished(final RepeatType repeatType) {
+        return repeatType == RepeatType.noRepeat || repeatType == RepeatType.repeatAll;
+    }
+
+    /**
+     * Gets the first index in the durations' prefix sums with a value greater than the
+     * specified one
+     *
+     * @param value the searched value
+     * @return the index (the size of the prefix sums if there is no such value)
+     */
+    private int upperBound(final int value) {
+        int low = 0;
+        int high = tracks.size() + 1;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (getDurationsPrefix(middle) <= value) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Registers the listens for a track of the collection in the user's listen tracker
+     * and in the listen tracker of the collection's owner (artist or host)
+     *
+     * @param index the index of the track
+     * @param count the number of listens
+     */
+    private void registerListens(final int index, final int count) {
+        Album album = CheckClass.isAlbum(playingCollection.getClass())
+                ? (Album) playingCollection : null;
+        user.getApp().getListenTracker()
+                .addListen(tracks.get(index), count, album, true, ownerTracker);
     }
 
     /**
@@ -250,7 +502,8 @@ public final class PlayingAudioCollection<T extends Collection<? extends Audio>>
      * @param repeatType The repeat type to be set
      */
     public void setPlaylistToRepeat(final RepeatType repeatType) {
-        for (PlayingAudio<?> playingSong : playableObjects) {
+        tracksRepeatType = repeatType;
+        for (PlayingAudio<?> playingSong : playableObjects.values()) {
             playingSong.setRepeatValue(repeatType);
         }
     }
@@ -278,21 +531,21 @@ public final class PlayingAudioCollection<T extends Collection<? extends Audio>>
      */
     public void replay(final int index) {
         playingNowIndex = index;
-        for (PlayingAudio<?> playingAudio : playableObjects) {
+        for (PlayingAudio<?> playingAudio : playableObjects.values()) {
             playingAudio.resetRemainedTime();
         }
-        playableObjects.get(playingNowIndex).resume();
+        getPlayable(playingNowIndex).resume();
         setFinished(false);
     }
 
     @Override
     public void pause() {
-        playableObjects.get(playingNowIndex).pause();
+        getPlayable(playingNowIndex).pause();
     }
 
     @Override
     public void resume() {
-        playableObjects.get(playingNowIndex).resume();
+        getPlayable(playingNowIndex).resume();
     }
 
     public int getPlayingNowIndex() {
@@ -364,7 +617,7 @@ public final class PlayingAudioCollection<T extends Collection<? extends Audio>>
      * @param shuffle the value to be set
      */
     private void setShuffleAll(final boolean shuffle) {
-        for (PlayingAudio<?> playingAudio : playableObjects) {
+        for (PlayingAudio<?> playingAudio : playableObjects.values()) {
             playingAudio.setShuffle(shuffle);
         }
     }
@@ -408,11 +661,11 @@ public final class PlayingAudioCollection<T extends Collection<? extends Audio>>
     }
 
     /**
-     * Sets the shuffled indexes list after the shuffle is enabled
+     * Sets the shuffled indexes after the shuffle is enabled
      *
-     * @param shuffledIndexes the list to be set
+     * @param shuffledIndexes the shuffled order to be set
      */
-    public void setShuffledIndexes(final List<Integer> shuffledIndexes) {
+    public void setShuffledIndexes(final ShuffledIndexes shuffledIndexes) {
         this.shuffledIndexes = shuffledIndexes;
     }
 }
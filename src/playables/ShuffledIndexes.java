@@ -0,0 +1,73 @@
+package playables;
+
+import java.util.Random;
+
+/**
+ * The order in which the tracks of a shuffled collection are played
+ * It keeps both the permutation and its inverse, so getting the track at a position
+ * and the position of a track are both done in constant time
+ */
+public final class ShuffledIndexes {
+    private final int[] order;
+    private final int[] positions;
+
+    /**
+     * Shuffles the indexes from 0 to the specified size (exclusive)
+     * The order is the same as the one given by {@code Collections.shuffle}
+     * on the list of ordered indexes, with a {@code Random} created with the same seed
+     *
+     * @param size the number of indexes
+     * @param seed the seed for the random numbers generator
+     * @see java.util.Collections#shuffle(java.util.List, Random)
+     */
+    public ShuffledIndexes(final int size, final long seed) {
+        order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Random random = new Random(seed);
+        for (int i = size; i > 1; i--) {
+            int j = random.nextInt(i);
+            int aux = order[i - 1];
+            order[i - 1] = order[j];
+            order[j] = aux;
+        }
+
+        positions = new int[size];
+        for (int position = 0; position < size; position++) {
+            positions[order[position]] = position;
+        }
+    }
+
+    /**
+     * Gets the index of the track played at the specified position
+     *
+     * @param position the position in the shuffled order
+     * @return the index of the track
+     */
+    public int get(final int position) {
+        return order[position];
+    }
+
+    /**
+     * Gets the position of the specified track in the shuffled order
+     *
+     * @param index the index of the track
+     * @return the position or -1 if the index wasn't shuffled
+     */
+    public int positionOf(final int index) {
+        if (index < 0 || index >= positions.length) {
+            return -1;
+        }
+        return positions[index];
+    }
+
+    /**
+     * Gets the number of shuffled indexes
+     *
+     * @return the size
+     */
+    public int size() {
+        return order.length;
+    }
+}
@@ -0,0 +1,117 @@
+package recommendation;
+
+import entities.audio.collections.Playlist;
+import entities.user.NormalUser;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Counts the songs of every genre a user has in the liked songs, in their playlists and in
+ * the followed playlists
+ * Every counted playlist reports the songs added to or removed from it, so the top genres
+ * of the user are read without going through the playlists
+ * The order of the genres with the same count is rebuilt from the genres of the playlists,
+ * each kept in the order of its first song
+ */
+public final class GenreTotals {
+    private final NormalUser user;
+    private final HashMap<String, Long> totals = new HashMap<>();
+
+    public GenreTotals(final NormalUser user) {
+        this.user = user;
+    }
+
+    /**
+     * Counts the songs of a playlist that starts being counted
+     *
+     * @param genreCounts The genres of the playlist and their counts
+     */
+    public void add(final Map<String, Integer> genreCounts) {
+        genreCounts.forEach(this::changed);
+    }
+
+    /**
+     * Stops counting the songs of a playlist that's no longer counted
+     *
+     * @param genreCounts The genres of the playlist and their counts
+     */
+    public void subtract(final Map<String, Integer> genreCounts) {
+        genreCounts.forEach((genre, count) -> changed(genre, -count));
+    }
+
+    /**
+     * Updates the count of a genre after songs were added to or removed from a counted
+     * playlist, and marks the top genres of the user dirty
+     *
+     * @param genre The genre of the songs
+     * @param delta The number of added songs (negative for the removed ones)
+     */
+    public void changed(final String genre, final int delta) {
+        long total = totals.getOrDefault(genre, 0L) + delta;
+        if (total == 0) {
+            totals.remove(genre);
+        } else {
+            totals.put(genre, total);
+        }
+        RecommendationCandidates.getInstance().userChanged(user);
+    }
+
+    /**
+     * Puts the genre totals in a new {@code HashMap} like the songs would be counted in it:
+     * the liked songs, then the user's playlists and then the followed playlists
+     * Counting puts a new genre first in its bucket, so the genres come in the same order:
+     * the ones of the liked songs are put in the order they are first found; the ones of
+     * a playlist were counted in a map of their own and are moved from it in the reverse
+     * order (for the genres of the same bucket)
+     *
+     * @return The genres and their counts
+     */
+    HashMap<String, Long> toCountedMap() {
+        HashMap<String, Long> genres = new HashMap<>();
+        Playlist liked = user.getLiked();
+        if (liked != null) {
+            liked.getGenres().forEach(genre -> put(genres, genre));
+        }
+        putReversed(genres, user.getPlaylists());
+        putReversed(genres, user.getFollowedPlaylists());
+        return genres;
+    }
+
+    /**
+     * Puts the genres of the playlists in the map (the genres of every playlist in the
+     * reverse order they are first found), until all the genres are in it
+     *
+     * @param genres    The map
+     * @param playlists The playlists (can be {@code null})
+     */
+    private void putReversed(final HashMap<String, Long> genres,
+                             final List<Playlist> playlists) {
+        if (playlists == null) {
+            return;
+        }
+        for (Playlist playlist : playlists) {
+            if (genres.size() == totals.size()) {
+                return;
+            }
+            List<String> order = new ArrayList<>(playlist.getGenres());
+            for (int index = order.size() - 1; index >= 0; index--) {
+                put(genres, order.get(index));
+            }
+        }
+    }
+
+    /**
+     * Puts a genre with its count first in its bucket, if it isn't in the map yet
+     * (the songs without a genre can't be counted)
+     *
+     * @param genres The map
+     * @param genre  The genre
+     */
+    private void put(final HashMap<String, Long> genres, final String genre) {
+        genres.computeIfAbsent(Objects.requireNonNull(genre), totals::get);
+    }
+}
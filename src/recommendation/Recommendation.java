@@ -1,23 +1,21 @@
 package recommendation;
 
-import commands.normalUser.searchBar.filter.filterAudio.FilterSongs;
 import entities.audio.Song;
 import entities.audio.collections.Playlist;
 import entities.user.Artist;
 import entities.user.NormalUser;
+import libraries.audio.SongsByGenre;
 import libraries.audio.SongsLibrary;
 import libraries.users.ArtistsLibrary;
 import playables.PlayingAudio;
+import statistics.listenTrackers.ListenTrackerArtist;
 
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Random;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 public final class Recommendation {
     private static final int FAN_SONGS_COUNT = 5;
@@ -48,26 +46,39 @@ public final class Recommendation {
                 .getPlayingObject()
                 .getOwner();
         String playlistName = artistName + " Fan Club recommendations";
-        Playlist fansPlaylist = new Playlist(playlistName,
-                artistName,
-                new ArrayList<>());
         Artist artist = ArtistsLibrary.getInstance().getArtistByName(artistName);
-        List<NormalUser> topFans = artist.getListenTracker().topFans();
+        List<Song> fanSongs = RecommendationCandidates.getInstance()
+                .getFanSongs(artist.getListenTracker(), Recommendation::fanSongs);
+        return new Playlist(playlistName, artistName, new ArrayList<>(fanSongs));
+    }
+
+    /**
+     * Gets the songs recommended to the fans of an artist: the most liked songs from the
+     * liked songs of every top fan (read from the fan's ranking of the liked songs), skipping
+     * the names recommended for the fans before
+     *
+     * @param tracker The listen trackers of the artist
+     * @return The songs
+     */
+    private static List<Song> fanSongs(final ListenTrackerArtist tracker) {
+        ArrayList<Song> fanSongs = new ArrayList<>();
+        HashSet<String> names = new HashSet<>();
+        List<NormalUser> topFans = tracker.topFans();
         for (NormalUser fan : topFans) {
-            Optional<Playlist> liked = Optional.ofNullable(fan.getLiked());
-            List<Song> likedSongs = liked.map(likedObj ->
-                            likedObj.getCollection().stream()
-                                    .sorted(Comparator.comparingInt(Song::getLikes).reversed())
-                                    .filter(song -> !fansPlaylist.contains(song.getName()))
-                                    .limit(FAN_SONGS_COUNT)
-                                    .toList())
-                    .orElse(List.of());
-
-            for (Song song : likedSongs) {
-                fansPlaylist.addItem(song);
+            int from = fanSongs.size();
+            for (Song song : fan.getLikedByLikes()) {
+                if (fanSongs.size() - from == FAN_SONGS_COUNT) {
+                    break;
+                }
+                if (!names.contains(song.getName())) {
+                    fanSongs.add(song);
+                }
+            }
+            for (int index = from; index < fanSongs.size(); index++) {
+                names.add(fanSongs.get(index).getName());
             }
         }
-        return fansPlaylist;
+        return fanSongs;
     }
 
     /**
@@ -78,69 +89,57 @@ public final class Recommendation {
      */
     public static Playlist randomPlaylist(final NormalUser user) {
         String username = user.getName();
-        Playlist playlist = new Playlist(username + "'s recommendations",
-                username,
-                new ArrayList<>());
-        List<String> topGenres = getTopGenres(user);
+        ArrayList<Song> songs = new ArrayList<>();
+        List<String> topGenres = RecommendationCandidates.getInstance()
+                .getTopGenres(user, Recommendation::getTopGenres);
+        SongsByGenre songsByGenre = SongsLibrary.getInstance().getSongsByGenre();
         for (int i = 0; i < topGenres.size(); i++) {
             String genre = topGenres.get(i);
 
-            FilterSongs filterSongs = new FilterSongs(SongsLibrary.getInstance().getItems());
-            ArrayList<Song> songsForGenre = filterSongs.byGenre(genre).getFilteredObjects();
-            List<Song> sortedSongsForGenre = songsForGenre.stream()
-                    .sorted(Comparator.comparing(Song::getLikes))
-                    .toList();
-
             int limit = switch (i) {
                 case FIRST -> SONGS_FROM_FIRST_GENRE;
                 case SECOND -> SONGS_FROM_SECOND_GENRE;
                 case THIRD -> SONGS_FROM_THIRD_GENRE;
                 default -> 0;
             };
-            sortedSongsForGenre.stream()
-                    .filter(song -> !playlist.contains(song.getName()))
-                    .limit(limit)
-                    .forEach(playlist::addItem);
+            int added = 0;
+            for (Song song : songsByGenre.getByLikes(genre)) {
+                if (added == limit) {
+                    break;
+                }
+                if (!contains(songs, song.getName())) {
+                    songs.add(song);
+                    added++;
+                }
+            }
         }
-        return playlist;
+        return new Playlist(username + "'s recommendations", username, songs);
+    }
+
+    /**
+     * Checks if a list contains a song judging by the song name
+     *
+     * @param songs    The songs
+     * @param songName The name of the song
+     * @return {@code true} if the list contains a song with the given name,
+     * {@code false} otherwise
+     */
+    private static boolean contains(final List<Song> songs, final String songName) {
+        return songs.stream().anyMatch(song -> song.getName().equals(songName));
     }
 
     /**
      * Gets the top 3 genres for the specified user
-     * It searches through all the songs in: liked songs, followed playlists and own playlists
-     * And counts how many times each genre occurs
+     * It reads the genre totals the user keeps for: liked songs, own playlists and
+     * followed playlists
+     * The genres with the same count are ordered like the keys of the {@code HashMap} the
+     * songs would be counted in
      *
      * @param user The user we calculate the top genres for
      * @return A list with the top genres names
      */
     private static List<String> getTopGenres(final NormalUser user) {
-        Playlist liked = user.getLiked();
-        HashMap<String, Long> genres;
-        if (liked != null) {
-            ArrayList<Song> likedSongs = user.getLiked().getCollection();
-            genres = likedSongs.stream()
-                    .map(Song::getGenre)
-                    .collect(Collectors.groupingBy(Function.identity(),
-                            HashMap<String, Long>::new,
-                            Collectors.counting()));
-        } else {
-            genres = new HashMap<>();
-        }
-
-        ArrayList<Playlist> playlists = user.getPlaylists();
-        if (playlists != null) {
-            for (Playlist playlist : playlists) {
-                merge(genres, playlist);
-            }
-        }
-
-        ArrayList<Playlist> followedPlaylists = user.getFollowedPlaylists();
-        if (followedPlaylists != null) {
-            for (Playlist playlist : followedPlaylists) {
-                merge(genres, playlist);
-            }
-        }
-
+        HashMap<String, Long> genres = user.getGenreTotals().toCountedMap();
         List<String> topGenres = genres.entrySet()
                 .stream()
                 .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
@@ -150,23 +149,6 @@ public final class Recommendation {
         return topGenres.subList(0, Math.min(topGenres.size(), TOP_GENRES_COUNT));
     }
 
-    /**
-     * Merge a map with kept genres count with the genres count calculated for a playlist
-     *
-     * @param mainMap The map to merge to
-     * @param playlistToMerge The playlist to merge from
-     */
-    private static void merge(final HashMap<String, Long> mainMap,
-                              final Playlist playlistToMerge) {
-        HashMap<String, Long> genresInPlaylist = playlistToMerge.getCollection()
-                .stream()
-                .map(Song::getGenre)
-                .collect(Collectors.groupingBy(Function.identity(),
-                        HashMap::new,
-                        Collectors.counting()));
-        genresInPlaylist.forEach((genre, count) -> mainMap.merge(genre, count, Long::sum));
-    }
-
     /**
      * Gets a random song recommendation
      *
@@ -200,8 +182,7 @@ public final class Recommendation {
 
         String genre = song.getGenre();
 
-        FilterSongs filterSongs = new FilterSongs(SongsLibrary.getInstance().getItems());
-        ArrayList<Song> songsForGenre = filterSongs.byGenre(genre).getFilteredObjects();
+        List<Song> songsForGenre = SongsLibrary.getInstance().getSongsByGenre().getSongs(genre);
 
         Random random = new Random(elapsedTime);
         int index = random.nextInt(songsForGenre.size());
@@ -0,0 +1,169 @@
+package recommendation;
+
+import entities.audio.Song;
+import entities.user.NormalUser;
+import statistics.listenTrackers.ListenEventLog;
+import statistics.listenTrackers.ListenTrackerArtist;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Candidates for the recommendations, kept between the commands
+ * The top genres of every user and the songs recommended to the fans of every artist are
+ * computed the first time they're needed and kept until a like, a follow, a change of a
+ * playlist or a listen of a fan marks them dirty (a missing entry is a dirty one), so the
+ * recommendation commands only build the final result from them
+ * Only the entries that depend on the change are marked: the top genres of a user whose
+ * genre totals changed, and the songs of the artists whose top fans liked a song that changed
+ */
+public final class RecommendationCandidates {
+    private static RecommendationCandidates instance = null;
+    private final IdentityHashMap<NormalUser, List<String>> topGenres = new IdentityHashMap<>();
+    /**
+     * The songs for the fan club recommendations, by the listen trackers of the artist
+     */
+    private final IdentityHashMap<ListenTrackerArtist, FanClub> fanSongs =
+            new IdentityHashMap<>();
+    /**
+     * The listen trackers of the artists whose fan club songs were read from the liked songs
+     * of every user
+     */
+    private final IdentityHashMap<NormalUser, List<ListenTrackerArtist>> fanClubs =
+            new IdentityHashMap<>();
+
+    private RecommendationCandidates() {
+    }
+
+    /**
+     * Gets the instance for the recommendation candidates class (singleton pattern)
+     * Initialize it if needed
+     *
+     * @return The instance
+     */
+    public static synchronized RecommendationCandidates getInstance() {
+        if (instance == null) {
+            instance = new RecommendationCandidates();
+        }
+        return instance;
+    }
+
+    /**
+     * Marks the top genres of a user dirty, after the songs counted in their genre totals
+     * changed
+     *
+     * @param user The user
+     * @see GenreTotals
+     */
+    public void userChanged(final NormalUser user) {
+        topGenres.remove(user);
+    }
+
+    /**
+     * Marks the fan club songs read from the liked songs of a user dirty,
+     * after the user liked or unliked a song
+     *
+     * @param user The user
+     */
+    public void likedSongsChanged(final NormalUser user) {
+        List<ListenTrackerArtist> trackers = fanClubs.get(user);
+        if (trackers != null) {
+            new ArrayList<>(trackers).forEach(this::fansChanged);
+        }
+    }
+
+    /**
+     * Marks the fan club songs read from the liked songs of the users who liked a song dirty,
+     * after the likes of the song changed (it may be ranked differently among their liked songs)
+     * It goes through the likers or through the fans the songs were read from,
+     * whichever are fewer
+     *
+     * @param song   The song
+     * @param likers The users who liked the song
+     */
+    public void likesChanged(final Song song, final List<NormalUser> likers) {
+        if (fanClubs.isEmpty()) {
+            return;
+        }
+        if (likers.size() <= fanClubs.size()) {
+            likers.forEach(this::likedSongsChanged);
+            return;
+        }
+        new ArrayList<>(fanClubs.keySet()).stream()
+                .filter(fan -> fan.isSongLiked(song))
+                .forEach(this::likedSongsChanged);
+    }
+
+    /**
+     * Marks the fan club songs of an artist dirty after the listens of their fans changed
+     *
+     * @param tracker The listen trackers of the artist
+     */
+    public void fansChanged(final ListenTrackerArtist tracker) {
+        FanClub fanClub = fanSongs.remove(tracker);
+        if (fanClub == null) {
+            return;
+        }
+        for (NormalUser fan : fanClub.fans()) {
+            List<ListenTrackerArtist> trackers = fanClubs.get(fan);
+            trackers.remove(tracker);
+            if (trackers.isEmpty()) {
+                fanClubs.remove(fan);
+            }
+        }
+    }
+
+    /**
+     * Forgets all the candidates
+     */
+    public void reset() {
+        topGenres.clear();
+        fanSongs.clear();
+        fanClubs.clear();
+    }
+
+    /**
+     * Gets the top genres of a user, computing them if they're dirty
+     *
+     * @param user    The user
+     * @param compute Computes the top genres
+     * @return The top genres names
+     */
+    List<String> getTopGenres(final NormalUser user,
+                              final Function<NormalUser, List<String>> compute) {
+        return topGenres.computeIfAbsent(user, compute);
+    }
+
+    /**
+     * Gets the songs for the fan club recommendations of an artist, computing them if they're
+     * dirty (the logged listens are counted first, so the listens of the fans are up to date)
+     *
+     * @param tracker The listen trackers of the artist
+     * @param compute Computes the songs
+     * @return The songs
+     */
+    List<Song> getFanSongs(final ListenTrackerArtist tracker,
+                           final Function<ListenTrackerArtist, List<Song>> compute) {
+        ListenEventLog.getInstance().drain();
+        FanClub fanClub = fanSongs.get(tracker);
+        if (fanClub == null) {
+            fanClub = new FanClub(compute.apply(tracker), tracker.topFans());
+            fanSongs.put(tracker, fanClub);
+            for (NormalUser fan : fanClub.fans()) {
+                fanClubs.computeIfAbsent(fan, user -> new ArrayList<>()).add(tracker);
+            }
+        }
+        return fanClub.songs();
+    }
+
+    /**
+     * The fan club songs of an artist with the top fans they were read from
+     *
+     * @param songs The songs
+     * @param fans  The top fans
+     */
+    private record FanClub(List<Song> songs, List<NormalUser> fans) {
+    }
+}
@@ -6,7 +6,7 @@ import entities.user.NormalUser;
 import java.util.TreeMap;
 
 public final class PremiumSongCalculateRevenue implements CalculateRevenueStrategy {
-    private static final int BALANCE = 1000000;
+    static final int BALANCE = 1000000;
     private final NormalUser user;
 
     public PremiumSongCalculateRevenue(final NormalUser user) {
@@ -0,0 +1,91 @@
+package statistics.calculator;
+
+import entities.audio.Song;
+import entities.user.Artist;
+import libraries.audio.SongsLibrary;
+import libraries.users.ArtistsLibrary;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Splits a value paid by a user between the songs they listened
+ * The shares are computed first in primitive arrays, finding in constant time if every song
+ * is still in the library and which artist owns the removed ones; then they are added to the
+ * songs (and to the artists of the removed songs) in the order of the songs' names
+ */
+public final class RevenueEngine {
+    private final Song[] songs;
+    private final double[] revenues;
+    /**
+     * The owners of the songs removed from the library ({@code null} for the other songs)
+     */
+    private final Artist[] removedOwners;
+    private final boolean[] removed;
+
+    private RevenueEngine(final int size) {
+        songs = new Song[size];
+        revenues = new double[size];
+        removedOwners = new Artist[size];
+        removed = new boolean[size];
+    }
+
+    /**
+     * Computes the revenue of every song, without adding it yet
+     *
+     * @param totalValue The total value that's being divided between songs
+     * @param listens    The songs and their respective number of listens
+     * @return The engine with the computed revenues
+     */
+    public static RevenueEngine compute(final int totalValue,
+                                        final TreeMap<Song, Integer> listens) {
+        RevenueEngine engine = new RevenueEngine(listens.size());
+        int[] songListens = new int[listens.size()];
+        int totalListens = 0;
+        int index = 0;
+        for (Map.Entry<Song, Integer> entry : listens.entrySet()) {
+            engine.songs[index] = entry.getKey();
+            songListens[index] = entry.getValue();
+            totalListens += songListens[index];
+            index++;
+        }
+        SongsLibrary songsLibrary = SongsLibrary.getInstance();
+        for (index = 0; index < engine.songs.length; index++) {
+            engine.revenues[index] = revenueForSong(totalValue, totalListens,
+                    songListens[index]);
+            Song song = engine.songs[index];
+            if (!songsLibrary.containsItem(song)) {
+                engine.removed[index] = true;
+                engine.removedOwners[index] = ArtistsLibrary.getInstance()
+                        .getArtistByName(song.getOwner());
+            }
+        }
+        return engine;
+    }
+
+    /**
+     * Adds the computed revenues to the songs and to the owners of the removed songs
+     */
+    public void apply() {
+        for (int index = 0; index < songs.length; index++) {
+            if (removed[index]) {
+                removedOwners[index].addSongRevenue(revenues[index]);
+            }
+            songs[index].addRevenue(revenues[index]);
+        }
+    }
+
+    /**
+     * Calculate the revenue for a certain song for a certain user
+     *
+     * @param totalValue   The total value that's being divided between songs
+     * @param totalListens The total song listens for a certain user
+     * @param songListens  The total song listen from the user for a specific song
+     * @return The value for the revenue the song's artist will get from this user
+     */
+    private static double revenueForSong(final int totalValue,
+                                         final int totalListens,
+                                         final int songListens) {
+        return (double) (totalValue * songListens) / totalListens;
+    }
+}
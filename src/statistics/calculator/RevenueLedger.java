@@ -0,0 +1,229 @@
+package statistics.calculator;
+
+import entities.audio.Song;
+import entities.audio.collections.Album;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Running revenue of an artist, kept up to date every time a song or a merch is paid for,
+ * so the revenue and the most profitable song are read without going through the songs
+ * every time
+ * The songs in the artist's albums are counted with their positive revenue (by name, the
+ * songs with the same name are merged); the revenue of the removed songs is settled
+ * The songs revenue is a running sum of the changes, compensated (Neumaier summation) so
+ * the rounding errors of the many small payments don't add up
+ */
+public final class RevenueLedger {
+    private double merchRevenue = 0;
+    /**
+     * The settled revenue plus the positive revenues of the songs in the albums
+     * (without the compensation)
+     */
+    private double songsRevenue = 0;
+    /**
+     * The low order bits lost when the changes were added to the songs revenue
+     */
+    private double songsCompensation = 0;
+    private final HashMap<String, ArrayList<Song>> songsByName = new HashMap<>();
+    /**
+     * The revenue of every song name with a positive revenue
+     */
+    private final HashMap<String, Double> revenueByName = new HashMap<>();
+    private String mostProfitableSong = null;
+    /**
+     * Set when the revenue of the most profitable song went down, so it's found again
+     * the next time it's needed
+     */
+    private boolean outdated = false;
+
+    /**
+     * Adds the songs of an album to the ledger
+     *
+     * @param album The album
+     */
+    public void addAlbum(final Album album) {
+        for (Song song : album.getCollection()) {
+            songsByName.computeIfAbsent(song.getName(), name -> new ArrayList<>()).add(song);
+            addSongsRevenue(positive(song.getRevenue()));
+            updateName(song.getName());
+        }
+    }
+
+    /**
+     * Removes the songs of an album from the ledger, settling their positive revenue
+     * (the songs revenue doesn't change)
+     *
+     * @param album The album
+     */
+    public void removeAlbum(final Album album) {
+        for (Song song : album.getCollection()) {
+            ArrayList<Song> sameName = songsByName.get(song.getName());
+            if (sameName == null || !sameName.remove(song)) {
+                continue;
+            }
+            if (sameName.isEmpty()) {
+                songsByName.remove(song.getName());
+            }
+            updateName(song.getName());
+        }
+    }
+
+    /**
+     * Updates the ledger after the revenue of a song changed
+     * Songs that aren't in the artist's albums are ignored
+     *
+     * @param song       The song
+     * @param oldRevenue The revenue of the song before the change
+     */
+    public void songRevenueChanged(final Song song, final double oldRevenue) {
+        ArrayList<Song> sameName = songsByName.get(song.getName());
+        if (sameName == null) {
+            return;
+        }
+        double change = positive(song.getRevenue()) - positive(oldRevenue);
+        boolean inAlbums = false;
+        for (Song sameNameSong : sameName) {
+            if (sameNameSong == song) {
+                addSongsRevenue(change);
+                inAlbums = true;
+            }
+        }
+        if (inAlbums) {
+            updateName(song.getName());
+        }
+    }
+
+    /**
+     * Adds revenue straight to the settled revenue (for songs no longer in the albums)
+     *
+     * @param amount The amount to be added
+     */
+    public void addSettledRevenue(final double amount) {
+        addSongsRevenue(amount);
+    }
+
+    /**
+     * Adds the specified amount to the merch revenue
+     *
+     * @param amount The amount to be added
+     */
+    public void addMerchRevenue(final double amount) {
+        merchRevenue += amount;
+    }
+
+    /**
+     * Gets the merch revenue
+     *
+     * @return The revenue
+     */
+    public double getMerchRevenue() {
+        return merchRevenue;
+    }
+
+    /**
+     * Gets the songs revenue (the settled one and the one of the songs in the albums)
+     *
+     * @return The revenue
+     */
+    public double getSongsRevenue() {
+        return songsRevenue + songsCompensation;
+    }
+
+    /**
+     * Gets the name of the song with the highest revenue (the first name for ties)
+     *
+     * @return The name or {@code null} if no song in the albums has revenue
+     */
+    public String getMostProfitableSong() {
+        if (outdated) {
+            mostProfitableSong = null;
+            for (Map.Entry<String, Double> entry : revenueByName.entrySet()) {
+                if (mostProfitableSong == null
+                        || ranksHigher(entry.getKey(), entry.getValue(), mostProfitableSong)) {
+                    mostProfitableSong = entry.getKey();
+                }
+            }
+            outdated = false;
+        }
+        return mostProfitableSong;
+    }
+
+    /**
+     * Sums again the revenue of the songs with the specified name and updates the most
+     * profitable song
+     *
+     * @param name The name of the songs
+     */
+    private void updateName(final String name) {
+        Double previous = revenueByName.get(name);
+        double revenue = 0;
+        ArrayList<Song> sameName = songsByName.get(name);
+        if (sameName != null) {
+            for (Song song : sameName) {
+                if (song.getRevenue() > 0) {
+                    revenue += song.getRevenue();
+                }
+            }
+        }
+        if (revenue > 0) {
+            revenueByName.put(name, revenue);
+        } else {
+            revenueByName.remove(name);
+        }
+
+        if (outdated) {
+            return;
+        }
+        if (name.equals(mostProfitableSong)) {
+            if (!(revenue > 0) || Double.compare(revenue, previous) < 0) {
+                outdated = true;
+            }
+        } else if (revenue > 0 && (mostProfitableSong == null
+                || ranksHigher(name, revenue, mostProfitableSong))) {
+            mostProfitableSong = name;
+        }
+    }
+
+    /**
+     * Adds a change to the songs revenue, keeping the low order bits that are lost in the
+     * compensation (Neumaier summation)
+     *
+     * @param change The change
+     */
+    private void addSongsRevenue(final double change) {
+        double sum = songsRevenue + change;
+        if (Math.abs(songsRevenue) >= Math.abs(change)) {
+            songsCompensation += (songsRevenue - sum) + change;
+        } else {
+            songsCompensation += (change - sum) + songsRevenue;
+        }
+        songsRevenue = sum;
+    }
+
+    /**
+     * Gets the revenue a song adds to the songs revenue while it's in the albums
+     *
+     * @param revenue The revenue of the song
+     * @return The revenue if it's positive, 0 otherwise
+     */
+    private static double positive(final double revenue) {
+        return revenue > 0 ? revenue : 0;
+    }
+
+    /**
+     * Checks if a song name has a higher revenue than the other one (or the same revenue
+     * and a name that comes before)
+     *
+     * @param name    The song name
+     * @param revenue The revenue of the name
+     * @param other   The other song name
+     * @return {@code true} if it ranks higher, {@code false} otherwise
+     */
+    private boolean ranksHigher(final String name, final double revenue, final String other) {
+        int comparison = Double.compare(revenue, revenueByName.get(other));
+        return comparison > 0 || comparison == 0 && name.compareTo(other) < 0;
+    }
+}
@@ -0,0 +1,103 @@
+package statistics.calculator;
+
+import entities.audio.Song;
+import entities.user.NormalUser;
+
+import java.io.Serial;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Calculates the revenue given by all the users (for their premium and free listens)
+ * The shares of every payment are computed independently, with fork/join when there are
+ * enough payments, and then added one payment at a time, in the order of the users
+ * (so the revenues are summed in the same order as when calculated user by user)
+ *
+ * @see RevenueEngine
+ */
+public final class UsersCalculateRevenue implements CalculateRevenueStrategy {
+    private static final int SEQUENTIAL_THRESHOLD = 32;
+    private final List<NormalUser> users;
+
+    public UsersCalculateRevenue(final List<NormalUser> users) {
+        this.users = users;
+    }
+
+    @Override
+    public void calculateRevenue() {
+        ArrayList<Payment> payments = new ArrayList<>();
+        for (NormalUser user : users) {
+            payments.add(new Payment(PremiumSongCalculateRevenue.BALANCE,
+                    user.getPremiumSongs()));
+            int adPrice = user.getApp().getPlayerManager().getAdPrice();
+            if (adPrice > 0) {
+                payments.add(new Payment(adPrice, user.getFreeSongs()));
+            }
+        }
+
+        RevenueEngine[] engines = new RevenueEngine[payments.size()];
+        ComputeTask task = new ComputeTask(payments, engines, 0, payments.size());
+        if (payments.size() > SEQUENTIAL_THRESHOLD) {
+            ForkJoinPool.commonPool().invoke(task);
+        } else {
+            task.compute();
+        }
+        for (RevenueEngine engine : engines) {
+            if (engine != null) {
+                engine.apply();
+            }
+        }
+    }
+
+    /**
+     * A value divided between the songs listened by a user
+     *
+     * @param value   The value
+     * @param listens The songs and their respective number of listens
+     */
+    private record Payment(int value, TreeMap<Song, Integer> listens) {
+    }
+
+    /**
+     * Computes the shares for a range of payments, splitting it while it's too big
+     * Every payment has its own engine, so the tasks don't share any state
+     */
+    private static final class ComputeTask extends RecursiveAction {
+        @Serial
+        private static final long serialVersionUID = 1L;
+        private final List<Payment> payments;
+        private final RevenueEngine[] engines;
+        private final int from;
+        private final int to;
+
+        ComputeTask(final List<Payment> payments,
+                    final RevenueEngine[] engines,
+                    final int from,
+                    final int to) {
+            this.payments = payments;
+            this.engines = engines;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                for (int index = from; index < to; index++) {
+                    Payment payment = payments.get(index);
+                    if (!payment.listens().isEmpty()) {
+                        engines[index] = RevenueEngine.compute(payment.value(),
+                                payment.listens());
+                    }
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ComputeTask(payments, engines, from, middle),
+                    new ComputeTask(payments, engines, middle, to));
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package statistics.listenTrackers;
+
+import entities.Entity;
+import entities.user.NormalUser;
+
+/**
+ * Listen trackers of an owner (normal user, artist or host) that aggregate the listen
+ * events logged for them
+ * The trackers are registered in the listen event log when they're created
+ *
+ * @see ListenEventLog
+ */
+public abstract class ListenAggregator {
+    final ListenEventLog events = ListenEventLog.getInstance();
+    final ListenEventLog.Registration registration;
+
+    /**
+     * Registers the trackers of an artist or a host
+     */
+    protected ListenAggregator() {
+        this(null);
+    }
+
+    /**
+     * Registers the trackers of a normal user, who is credited as a fan for the listens
+     *
+     * @param listener The user ({@code null} for the trackers of an artist or a host)
+     */
+    protected ListenAggregator(final NormalUser listener) {
+        registration = events.register(this, listener);
+    }
+
+    /**
+     * Stops logging the listens for these trackers, after their owner was deleted
+     * (the listens still added are counted right away)
+     */
+    public final void unregister() {
+        events.unregister(registration);
+    }
+
+    /**
+     * Counts a listen in the trackers, when the event it was logged with is aggregated
+     *
+     * @param kind    What was listened
+     * @param entity  The listened entity
+     * @param count   The number of listens
+     * @param premium If the user was premium when the listen was logged
+     */
+    abstract void aggregate(ListenKind kind, Entity entity, int count, boolean premium);
+}
@@ -0,0 +1,246 @@
+package statistics.listenTrackers;
+
+import entities.audio.Audio;
+import entities.audio.collections.Album;
+import entities.user.NormalUser;
+import managers.CheckClass;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+
+/**
+ * Central log of the listens of all the users
+ * A listen only appends one compact event to a primitive ring buffer: the trackers of the
+ * user, the listened track, the number of listens, the premium flag and, when they're
+ * credited, the trackers of the artist or host and the album. The events are fanned out
+ * to the trackers in batches, in the order they were logged, when the buffer is full or
+ * before the trackers are read
+ * The audio files keep their ID in the log, so logging a listen doesn't search for them
+ * The trackers of a deleted owner are unregistered and their ID is given to the next
+ * registered trackers
+ *
+ * @see ListenAggregator
+ */
+public final class ListenEventLog {
+    private static final int CAPACITY = 1024;
+    private static final int NONE = -1;
+    private static final int UNREGISTERED = -1;
+    private static final int PREMIUM = 1;
+    private static final int ALBUM_LISTENED = 2;
+    private static ListenEventLog instance = null;
+    /**
+     * The registered trackers by their IDs ({@code null} for the free IDs)
+     */
+    private final ArrayList<Registration> registrations = new ArrayList<>();
+    private final ArrayDeque<Integer> freeIds = new ArrayDeque<>();
+    /**
+     * The listened audio files by their IDs
+     */
+    private final ArrayList<Audio> audios = new ArrayList<>();
+    private final int[] listenerIds = new int[CAPACITY];
+    private final int[] trackIds = new int[CAPACITY];
+    private final int[] counts = new int[CAPACITY];
+    private final int[] flags = new int[CAPACITY];
+    private final int[] ownerIds = new int[CAPACITY];
+    private final int[] albumIds = new int[CAPACITY];
+    private int head = 0;
+    private int size = 0;
+
+    private ListenEventLog() {
+    }
+
+    /**
+     * Gets the instance for the listen event log class (singleton pattern)
+     * Initialize it if needed
+     *
+     * @return The instance
+     */
+    public static synchronized ListenEventLog getInstance() {
+        if (instance == null) {
+            instance = new ListenEventLog();
+        }
+        return instance;
+    }
+
+    /**
+     * Registers the trackers of an owner, so events can be logged for them
+     *
+     * @param aggregator The trackers
+     * @param listener   The normal user that owns the trackers
+     *                   ({@code null} for an artist or a host)
+     * @return The registration used to log events for the trackers
+     */
+    Registration register(final ListenAggregator aggregator, final NormalUser listener) {
+        Registration registration = new Registration(aggregator, listener);
+        if (freeIds.isEmpty()) {
+            registration.id = registrations.size();
+            registrations.add(registration);
+        } else {
+            registration.id = freeIds.pop();
+            registrations.set(registration.id, registration);
+        }
+        return registration;
+    }
+
+    /**
+     * Unregisters the trackers of a deleted owner
+     * Their logged events are aggregated first, and the listens logged for them later are
+     * counted right away
+     *
+     * @param registration The registration of the trackers
+     */
+    void unregister(final Registration registration) {
+        if (registration.id == UNREGISTERED) {
+            return;
+        }
+        drain();
+        registrations.set(registration.id, null);
+        freeIds.push(registration.id);
+        registration.id = UNREGISTERED;
+    }
+
+    /**
+     * Appends the event for the listens of a track
+     * If the user's or the owner's trackers were unregistered, the listens are counted
+     * right away (after the logged events)
+     *
+     * @param listener      The registration of the user's trackers
+     * @param track         The listened song or episode
+     * @param count         The number of listens
+     * @param album         The album of the track ({@code null} if it isn't counted)
+     * @param albumListened If the album is counted for the user too
+     * @param owner         The registration of the artist's or host's trackers
+     *                      ({@code null} if nobody is credited)
+     * @param premium       If the user is premium
+     */
+    void log(final Registration listener,
+             final Audio track,
+             final int count,
+             final Album album,
+             final boolean albumListened,
+             final Registration owner,
+             final boolean premium) {
+        if (listener.id == UNREGISTERED || owner != null && owner.id == UNREGISTERED) {
+            drain();
+            aggregate(listener, track, count, album, albumListened, owner, premium);
+            return;
+        }
+        if (size == CAPACITY) {
+            drain();
+        }
+        int tail = (head + size) & (CAPACITY - 1);
+        listenerIds[tail] = listener.id;
+        trackIds[tail] = idOf(track);
+        counts[tail] = count;
+        flags[tail] = (premium ? PREMIUM : 0) | (albumListened ? ALBUM_LISTENED : 0);
+        ownerIds[tail] = owner == null ? NONE : owner.id;
+        albumIds[tail] = album == null ? NONE : idOf(album);
+        size++;
+    }
+
+    /**
+     * Aggregates all the logged events in the listen trackers
+     */
+    public void drain() {
+        while (size > 0) {
+            int event = head;
+            head = (head + 1) & (CAPACITY - 1);
+            size--;
+            aggregate(registrations.get(listenerIds[event]),
+                    audios.get(trackIds[event]),
+                    counts[event],
+                    albumIds[event] == NONE ? null : (Album) audios.get(albumIds[event]),
+                    (flags[event] & ALBUM_LISTENED) != 0,
+                    ownerIds[event] == NONE ? null : registrations.get(ownerIds[event]),
+                    (flags[event] & PREMIUM) != 0);
+        }
+    }
+
+    /**
+     * Aggregates the logged events, unregisters all the trackers and forgets the listened
+     * audio files (all the owners are replaced when the libraries are reset; the trackers
+     * that are still used count their listens right away)
+     */
+    public void reset() {
+        drain();
+        for (Registration registration : registrations) {
+            if (registration != null) {
+                registration.id = UNREGISTERED;
+            }
+        }
+        registrations.clear();
+        freeIds.clear();
+        audios.clear();
+    }
+
+    /**
+     * Fans the listens of a track out to the trackers: the user counts the track (and the
+     * album, if it was listened), and the artist or host counts the album, the track and
+     * the user as a fan
+     *
+     * @param listener      The registration of the user's trackers
+     * @param track         The listened song or episode
+     * @param count         The number of listens
+     * @param album         The album of the track ({@code null} if it isn't counted)
+     * @param albumListened If the album is counted for the user too
+     * @param owner         The registration of the artist's or host's trackers
+     *                      ({@code null} if nobody is credited)
+     * @param premium       If the user was premium
+     */
+    private static void aggregate(final Registration listener,
+                                  final Audio track,
+                                  final int count,
+                                  final Album album,
+                                  final boolean albumListened,
+                                  final Registration owner,
+                                  final boolean premium) {
+        ListenKind trackKind = CheckClass.isSong(track.getClass())
+                ? ListenKind.song : ListenKind.episode;
+        listener.aggregator.aggregate(trackKind, track, count, premium);
+        if (albumListened && album != null) {
+            listener.aggregator.aggregate(ListenKind.album, album, count, premium);
+        }
+        if (owner != null) {
+            if (album != null) {
+                owner.aggregator.aggregate(ListenKind.album, album, count, premium);
+            }
+            owner.aggregator.aggregate(trackKind, track, count, premium);
+            owner.aggregator.aggregate(ListenKind.fan, listener.listener, count, premium);
+        }
+    }
+
+    /**
+     * Gets the ID of an audio file in the log, giving it the next ID the first time
+     * (the ID is kept by the audio file; one given before the log was reset is replaced)
+     *
+     * @param audio The audio file
+     * @return The ID
+     */
+    private int idOf(final Audio audio) {
+        int id = audio.getListenId();
+        if (id < 0 || id >= audios.size() || audios.get(id) != audio) {
+            id = audios.size();
+            audios.add(audio);
+            audio.setListenId(id);
+        }
+        return id;
+    }
+
+    /**
+     * The registration of the trackers of an owner, through which their events are logged
+     */
+    static final class Registration {
+        private final ListenAggregator aggregator;
+        private final NormalUser listener;
+        /**
+         * The ID the events are logged with ({@code UNREGISTERED} once the trackers were
+         * unregistered)
+         */
+        private int id;
+
+        private Registration(final ListenAggregator aggregator, final NormalUser listener) {
+            this.aggregator = aggregator;
+            this.listener = listener;
+        }
+    }
+}
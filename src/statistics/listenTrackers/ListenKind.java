@@ -0,0 +1,8 @@
+package statistics.listenTrackers;
+
+/**
+ * What was listened in a listen event (the tracker that counts it)
+ */
+enum ListenKind {
+    album, song, episode, fan
+}
@@ -1,20 +1,37 @@
 package statistics.listenTrackers;
 
 import entities.Entity;
-import lombok.Getter;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.TreeMap;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 
-@Getter
+/**
+ * Counts the listens of entities, merging the entities with the same name
+ * The listens are counted in primitive arrays, by the IDs of the names; the names are
+ * compared only when the top listens or the listens ordered by name are needed
+ *
+ * @param <E> The class of the listened entities
+ * @see NameIds
+ */
 public class ListenTracker<E extends Entity> {
-    private static final int NUMBER_TOP_RESULTS = 5;
-    private final TreeMap<E, Integer> listens = new TreeMap<>(Comparator.comparing(E::getName));
-
+    protected static final int NUMBER_TOP_RESULTS = 5;
+    private static final int INITIAL_CAPACITY = 8;
+    /**
+     * The first listened entity for every name, in the order they were first listened
+     */
+    private final ArrayList<E> entities = new ArrayList<>();
+    private int[] nameIds = new int[INITIAL_CAPACITY];
+    private int[] counts = new int[INITIAL_CAPACITY];
+    /**
+     * Open addressing table from the ID of a name to its position in the arrays above
+     * (the positions are stored incremented by one, so an empty cell is 0)
+     */
+    private int[] positions = new int[2 * INITIAL_CAPACITY];
 
     /**
      * Adds a listen to the specified entity
@@ -22,7 +39,7 @@ public class ListenTracker<E extends Entity> {
      * @param entity The name fo the entity for which we add listens
      */
     public void addListen(final E entity) {
-        listens.put(entity, listens.getOrDefault(entity, 0) + 1);
+        addListen(entity, 1);
     }
 
     /**
@@ -32,7 +49,33 @@ public class ListenTracker<E extends Entity> {
      * @param count  The number of listens to add
      */
     public void addListen(final E entity, final int count) {
-        listens.put(entity, listens.getOrDefault(entity, 0) + count);
+        int nameId = NameIds.getInstance().idOf(entity.getName());
+        int position = findPosition(nameId);
+        if (position < 0) {
+            position = addEntity(entity, nameId);
+        }
+        counts[position] += count;
+        listened(position, count);
+    }
+
+    /**
+     * Adds the specified number of listens to the entity with the specified name
+     * The entity is created only the first time its name is listened
+     *
+     * @param name      The name of the entity for which we add listens
+     * @param count     The number of listens to add
+     * @param newEntity Creates the entity with the given name
+     */
+    public void addListen(final String name,
+                          final int count,
+                          final Function<String, E> newEntity) {
+        int nameId = NameIds.getInstance().idOf(name);
+        int position = findPosition(nameId);
+        if (position < 0) {
+            position = addEntity(newEntity.apply(name), nameId);
+        }
+        counts[position] += count;
+        listened(position, count);
     }
 
     /**
@@ -42,7 +85,26 @@ public class ListenTracker<E extends Entity> {
      * @return The number of listens
      */
     public int getListenCount(final E entity) {
-        return listens.getOrDefault(entity, 0);
+        int nameId = NameIds.getInstance().findId(entity.getName());
+        if (nameId == NameIds.NO_ID) {
+            return 0;
+        }
+        int position = findPosition(nameId);
+        return position < 0 ? 0 : counts[position];
+    }
+
+    /**
+     * Gets a map with the listened entities ordered by their name
+     * (it's a copy, built when it's needed)
+     *
+     * @return The map from every entity to its number of listens
+     */
+    public TreeMap<E, Integer> getListens() {
+        TreeMap<E, Integer> listens = new TreeMap<>(Comparator.comparing(E::getName));
+        for (int position = 0; position < entities.size(); position++) {
+            listens.put(entities.get(position), counts[position]);
+        }
+        return listens;
     }
 
     /**
@@ -52,15 +114,11 @@ public class ListenTracker<E extends Entity> {
      * @return The map
      */
     public LinkedHashMap<String, Integer> getTopFiveListensNames() {
-        return listens.entrySet().stream()
-                .sorted(Map.Entry
-                        .<E, Integer>comparingByValue()
-                        .reversed()
-                        .thenComparing(entry -> entry.getKey().getName()))
-                .limit(NUMBER_TOP_RESULTS)
-                .collect(Collectors
-                        .toMap(entry -> entry.getKey().getName(),
-                                Map.Entry::getValue, (e1, e2) -> e1, LinkedHashMap::new));
+        LinkedHashMap<String, Integer> topListens = new LinkedHashMap<>();
+        for (int position : getTopFivePositions()) {
+            topListens.put(entities.get(position).getName(), counts[position]);
+        }
+        return topListens;
     }
 
     /**
@@ -70,15 +128,11 @@ public class ListenTracker<E extends Entity> {
      * @return The map
      */
     public List<E> getTopFiveListens() {
-        return listens.entrySet().stream()
-                .sorted(Map.Entry
-                        .<E, Integer>comparingByValue()
-                        .reversed()
-                        .thenComparing(entry -> entry.getKey().getName()))
-                .limit(NUMBER_TOP_RESULTS)
-                .map(Map.Entry::getKey)
-                .collect(Collectors
-                        .toList());
+        List<E> topListens = new ArrayList<>();
+        for (int position : getTopFivePositions()) {
+            topListens.add(entities.get(position));
+        }
+        return topListens;
     }
 
     /**
@@ -87,7 +141,7 @@ public class ListenTracker<E extends Entity> {
      * @return The size
      */
     public int getSize() {
-        return listens.size();
+        return entities.size();
     }
 
     /**
@@ -96,13 +150,131 @@ public class ListenTracker<E extends Entity> {
      * @return {@code true} if the tracker is empty, {@code false} otherwise
      */
     public boolean isEmpty() {
-        return listens.isEmpty();
+        return entities.isEmpty();
     }
 
     /**
      * Empties the tracker
      */
     public void clear() {
-        listens.clear();
+        entities.clear();
+        Arrays.fill(positions, 0);
+    }
+
+    /**
+     * Called after listens were added to the entity at the specified position
+     * (the positions are the order in which the entities were first listened)
+     *
+     * @param position The position of the entity
+     * @param count    The number of listens added
+     */
+    protected void listened(final int position, final int count) {
+    }
+
+    /**
+     * Gets the positions of the five most listened entities, by the number of listens
+     * and then by their name
+     * Every entity is checked, but the names are compared only for the top ones
+     *
+     * @return The positions, from the most listened entity
+     */
+    protected int[] getTopFivePositions() {
+        int[] top = new int[Math.min(NUMBER_TOP_RESULTS, entities.size())];
+        int found = 0;
+        for (int position = 0; position < entities.size(); position++) {
+            int index = found;
+            while (index > 0 && ranksHigher(position, top[index - 1])) {
+                index--;
+            }
+            if (index == top.length) {
+                continue;
+            }
+            int moved = Math.min(found, top.length - 1) - index;
+            System.arraycopy(top, index, top, index + 1, moved);
+            top[index] = position;
+            found = Math.min(found + 1, top.length);
+        }
+        return top;
+    }
+
+    /**
+     * Checks if the entity at a position has more listens than another one (or as many
+     * listens and a name that comes before)
+     *
+     * @param position The position of the entity
+     * @param other    The position of the other entity
+     * @return {@code true} if it ranks higher, {@code false} otherwise
+     */
+    protected final boolean ranksHigher(final int position, final int other) {
+        if (counts[position] != counts[other]) {
+            return counts[position] > counts[other];
+        }
+        return entities.get(position).getName().compareTo(entities.get(other).getName()) < 0;
+    }
+
+    /**
+     * Finds the position of the entity with the specified name
+     *
+     * @param nameId The ID of the name
+     * @return The position or -1 if the name wasn't listened
+     */
+    private int findPosition(final int nameId) {
+        int mask = positions.length - 1;
+        for (int cell = hash(nameId) & mask; positions[cell] != 0; cell = (cell + 1) & mask) {
+            if (nameIds[positions[cell] - 1] == nameId) {
+                return positions[cell] - 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Adds an entity whose name wasn't listened before
+     *
+     * @param entity The entity
+     * @param nameId The ID of its name
+     * @return The position of the entity
+     */
+    private int addEntity(final E entity, final int nameId) {
+        int position = entities.size();
+        if (position == counts.length) {
+            nameIds = Arrays.copyOf(nameIds, 2 * position);
+            counts = Arrays.copyOf(counts, 2 * position);
+            positions = new int[4 * position];
+            for (int i = 0; i < position; i++) {
+                insertPosition(nameIds[i], i);
+            }
+        }
+        entities.add(entity);
+        nameIds[position] = nameId;
+        counts[position] = 0;
+        insertPosition(nameId, position);
+        return position;
+    }
+
+    /**
+     * Puts the position of a name in the first free cell of the table
+     *
+     * @param nameId   The ID of the name
+     * @param position The position of the entity with that name
+     */
+    private void insertPosition(final int nameId, final int position) {
+        int mask = positions.length - 1;
+        int cell = hash(nameId) & mask;
+        while (positions[cell] != 0) {
+            cell = (cell + 1) & mask;
+        }
+        positions[cell] = position + 1;
+    }
+
+    /**
+     * Spreads the bits of an ID, so consecutive IDs don't fill consecutive cells
+     *
+     * @param nameId The ID
+     * @return The hash
+     */
+    private static int hash(final int nameId) {
+        int hash = nameId * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
     }
 }
@@ -1,80 +1,50 @@
 package statistics.listenTrackers;
 
+import entities.Entity;
 import entities.audio.Song;
 import entities.audio.collections.Album;
 import entities.user.NormalUser;
-import libraries.audio.AlbumsLibrary;
+import recommendation.RecommendationCandidates;
 
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 
-public final class ListenTrackerArtist {
-    private final ListenTracker<Album> albumsListenTracker = new ListenTracker<>();
-    private final ListenTracker<Song> songsListenTracker = new ListenTracker<>();
-    private final ListenTracker<NormalUser> fansListenTracker = new ListenTracker<>();
+/**
+ * The listen trackers of an artist
+ * The listens of the users are logged in the listen event log and counted when the trackers
+ * are read
+ *
+ * @see ListenEventLog
+ */
+public final class ListenTrackerArtist extends ListenAggregator {
+    private final ListenTracker<Album> albumsListenTracker = new TopListensTracker<>();
+    private final ListenTracker<Song> songsListenTracker = new TopListensTracker<>();
+    private final ListenTracker<NormalUser> fansListenTracker = new TopListensTracker<>();
 
     /**
-     * Adds a listen for the specified album
+     * Counts a logged listen in the trackers
      *
-     * @param album The album for which we add a listen
-     * @see Album
+     * @param kind    What was listened
+     * @param entity  The listened entity
+     * @param count   The number of listens
+     * @param premium If the user was premium (it doesn't matter for artists)
      */
-    public void addListen(final Album album) {
-        albumsListenTracker.addListen(album);
-    }
-
-    /**
-     * Adds a listen for the specified song
-     *
-     * @param song The song for which we add a listen
-     * @see Song
-     */
-    public void addListen(final Song song) {
-        songsListenTracker.addListen(song);
-    }
-
-    /**
-     * Adds a listen for the specified user
-     *
-     * @param user The user for which we add a listen
-     * @see NormalUser
-     */
-    public void addListen(final NormalUser user) {
-        fansListenTracker.addListen(user);
-    }
-
-    /**
-     * Adds the specified number of listens for the specified album
-     *
-     * @param album The album for which we add a listen
-     * @param count The number of listens that should be added
-     * @see Album
-     */
-    public void addListen(final Album album, final int count) {
-        albumsListenTracker.addListen(album, count);
-    }
-
-    /**
-     * Adds the specified number of listens for the specified song
-     *
-     * @param song  The song for which we add a listen
-     * @param count The number of listens that should be added
-     * @see Song
-     */
-    public void addListen(final Song song, final int count) {
-        songsListenTracker.addListen(song, count);
-    }
-
-    /**
-     * Adds the specified number of listens for the specified entities.user
-     *
-     * @param user  The entities.user for which we add a listen
-     * @param count The number of listens that should be added
-     * @see NormalUser
-     */
-    public void addListen(final NormalUser user, final int count) {
-        fansListenTracker.addListen(user, count);
+    @Override
+    void aggregate(final ListenKind kind,
+                   final Entity entity,
+                   final int count,
+                   final boolean premium) {
+        switch (kind) {
+            case album -> albumsListenTracker.addListen((Album) entity, count);
+            case song -> songsListenTracker.addListen((Song) entity, count);
+            case fan -> {
+                fansListenTracker.addListen((NormalUser) entity, count);
+                RecommendationCandidates.getInstance().fansChanged(this);
+            }
+            default -> {
+            }
+        }
     }
 
     /**
@@ -84,6 +54,7 @@ public final class ListenTrackerArtist {
      * @return A map with the top results for each category
      */
     public HashMap<String, Object> topListensForEach() {
+        events.drain();
         HashMap<String, Object> result = new LinkedHashMap<>();
 
         result.put("topAlbums", albumsListenTracker.getTopFiveListensNames());
@@ -104,84 +75,9 @@ public final class ListenTrackerArtist {
      * @see NormalUser
      */
     public List<NormalUser> topFans() {
+        events.drain();
         return fansListenTracker.getTopFiveListens();
     }
-    /**
-     * Adds a listen for the following categories: Album, Song and User
-     *
-     * @param album The album for which we add a listen
-     * @param song  The song for which we add a listen
-     * @param user  The user for which we add a listen
-     * @see Song
-     * @see NormalUser
-     * @see Album
-     */
-    public void addListenAll(final Album album, final Song song, final NormalUser user) {
-        addListen(album);
-        addListen(song);
-        addListen(user);
-    }
-
-    /**
-     * Adds a listen for the following categories: Album, Song and User
-     *
-     * @param albumName The name of the album for which we add a listen
-     * @param song      The song for which we add a listen
-     * @param user      The user for which we add a listen
-     * @see Song
-     * @see NormalUser
-     */
-    public void addListenAll(final String albumName, final Song song, final NormalUser user) {
-        Album album = AlbumsLibrary.getInstance().getAlbumByName(albumName);
-        albumsListenTracker.addListen(album);
-        addListenAll(song, user);
-    }
-
-    /**
-     * Adds a listen for the following categories: Song and User
-     *
-     * @param song The song for which we add a listen
-     * @param user The user for which we add a listen
-     * @see Song
-     * @see NormalUser
-     */
-    public void addListenAll(final Song song, final NormalUser user) {
-        addListen(song);
-        addListen(user);
-    }
-
-    /**
-     * Adds the specified number of listens for the following categories: Song and User
-     *
-     * @param song  The song for which we add a listen
-     * @param user  The entities.user for which we add a listen
-     * @param count The number of listens we add
-     * @see Song
-     * @see NormalUser
-     */
-    public void addListenAll(final Song song, final NormalUser user, final int count) {
-        addListen(song, count);
-        addListen(user, count);
-    }
-
-    /**
-     * Adds the specified number of listens for the following categories: Album, Song and User
-     *
-     * @param song  The song for which we add a listen
-     * @param user  The user for which we add a listen
-     * @param album The album for which we add a listen
-     * @param count The number of listens we add
-     * @see Song
-     * @see NormalUser
-     */
-    public void addListenAll(final Album album,
-                             final Song song,
-                             final NormalUser user,
-                             final int count) {
-        addListen(song, count);
-        addListen(user, count);
-        addListen(album, count);
-    }
 
     /**
      * Check if the artist was listened
@@ -189,6 +85,7 @@ public final class ListenTrackerArtist {
      * @return {@code true} if the artist was listened, {@code false} otherwise
      */
     public boolean wasListened() {
+        events.drain();
         return (!albumsListenTracker.isEmpty()
                 || !songsListenTracker.isEmpty()
                 || !fansListenTracker.isEmpty());
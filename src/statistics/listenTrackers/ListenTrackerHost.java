@@ -1,55 +1,42 @@
 package statistics.listenTrackers;
 
+import entities.Entity;
 import entities.audio.Episode;
 import entities.user.NormalUser;
 
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 
-public class ListenTrackerHost {
-    private final ListenTracker<Episode> episodesListenTracker = new ListenTracker<>();
+/**
+ * The listen trackers of a host
+ * The listens of the users are logged in the listen event log and counted when the trackers
+ * are read
+ *
+ * @see ListenEventLog
+ */
+public class ListenTrackerHost extends ListenAggregator {
+    private final ListenTracker<Episode> episodesListenTracker = new TopListensTracker<>();
     private final ListenTracker<NormalUser> fansListenTracker = new ListenTracker<>();
 
     /**
-     * Adds a listen for the specified episode
+     * Counts a logged listen in the trackers
      *
-     * @param episode The episode for which we add a listen
-     * @see Episode
+     * @param kind    What was listened
+     * @param entity  The listened entity
+     * @param count   The number of listens
+     * @param premium If the user was premium (it doesn't matter for hosts)
      */
-    public void addListen(final Episode episode) {
-        episodesListenTracker.addListen(episode);
-    }
-
-    /**
-     * Adds a listen for the specified user
-     *
-     * @param user The user for which we add a listen
-     * @see NormalUser
-     */
-    public void addListen(final NormalUser user) {
-        fansListenTracker.addListen(user);
-    }
-
-    /**
-     * Adds the specified number of listens for the specified song
-     *
-     * @param episode The song for which we add a listen
-     * @param count The number of listens that should be added
-     * @see Episode
-     */
-    public void addListen(final Episode episode, final int count) {
-        episodesListenTracker.addListen(episode, count);
-    }
-
-    /**
-     * Adds the specified number of listens for the specified user
-     *
-     * @param user  The user for which we add a listen
-     * @param count The number of listens that should be added
-     * @see NormalUser
-     */
-    public void addListen(final NormalUser user, final int count) {
-        fansListenTracker.addListen(user, count);
+    @Override
+    void aggregate(final ListenKind kind,
+                   final Entity entity,
+                   final int count,
+                   final boolean premium) {
+        switch (kind) {
+            case episode -> episodesListenTracker.addListen((Episode) entity, count);
+            case fan -> fansListenTracker.addListen((NormalUser) entity, count);
+            default -> {
+            }
+        }
     }
 
     /**
@@ -59,38 +46,11 @@ public class ListenTrackerHost {
      * @return A map with the top results for each category
      */
     public HashMap<String, Object> topListensForEach() {
+        events.drain();
         HashMap<String, Object> result = new LinkedHashMap<>();
         result.put("topEpisodes", episodesListenTracker.getTopFiveListensNames());
         result.put("listeners", fansListenTracker.getSize());
 
         return result;
     }
-
-    /**
-     * Adds a listen for the following categories: Episode and User
-     *
-     * @param episode  The episode for which we add a listen
-     * @param user  The user for which we add a listen
-     * @see Episode
-     * @see NormalUser
-     */
-    public void addListenAll(final Episode episode, final NormalUser user) {
-        addListen(episode);
-        addListen(user);
-    }
-
-
-    /**
-     * Adds the specified number of listens for the following categories: Episode and User
-     *
-     * @param episode  The episode for which we add a listen
-     * @param user  The user for which we add a listen
-     * @param count The number of listens we add
-     * @see Episode
-     * @see NormalUser
-     */
-    public void addListenAll(final Episode episode, final NormalUser user, final int count) {
-        addListen(episode, count);
-        addListen(user, count);
-    }
 }
@@ -1,109 +1,104 @@
 package statistics.listenTrackers;
 
+import entities.Entity;
 import entities.NameableEntity;
 import entities.audio.Audio;
 import entities.audio.Episode;
 import entities.audio.Song;
 import entities.audio.collections.Album;
-import libraries.audio.AlbumsLibrary;
+import entities.user.NormalUser;
+import managers.CheckClass;
 
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.Objects;
 import java.util.TreeMap;
 
-public final class ListenTrackerNormalUser {
-    private final ListenTracker<NameableEntity> artistsListenTracker = new ListenTracker<>();
-    private final ListenTracker<Album> albumsListenTracker = new ListenTracker<>();
-    private final ListenTracker<Song> songsListenTracker = new ListenTracker<>();
-    private final ListenTracker<Episode> episodesListenTracker = new ListenTracker<>();
-    private final ListenTracker<NameableEntity> genresListenTracker = new ListenTracker<>();
+/**
+ * The listen trackers of a normal user
+ * Every listen is logged as one event in the listen event log, that also credits the artist
+ * or host; it's counted when the trackers are read
+ *
+ * @see ListenEventLog
+ */
+public final class ListenTrackerNormalUser extends ListenAggregator {
+    private final ListenTracker<NameableEntity> artistsListenTracker = new TopListensTracker<>();
+    private final ListenTracker<Album> albumsListenTracker = new TopListensTracker<>();
+    private final ListenTracker<Song> songsListenTracker = new TopListensTracker<>();
+    private final ListenTracker<Episode> episodesListenTracker = new TopListensTracker<>();
+    private final ListenTracker<NameableEntity> genresListenTracker = new TopListensTracker<>();
     private final ListenTracker<Song> premiumListenTracker = new ListenTracker<>();
     private final ListenTracker<Song> freeListenTracker = new ListenTracker<>();
     private boolean isPremium;
 
     /**
-     * Adds a listen or the specified album
+     * Creates the trackers of a normal user
      *
-     * @param album The album for which we add a listen
-     * @see Album
+     * @param user The user, credited as a fan of the artists and hosts listened
      */
-    public void addListen(final Album album) {
-        albumsListenTracker.addListen(album);
+    public ListenTrackerNormalUser(final NormalUser user) {
+        super(user);
     }
 
     /**
-     * Add a listen for the specified album
+     * Adds the specified number of listens for a track
+     * The listens are logged as one event: the track (and the album, if it's listened too)
+     * for the user, and the album, the track and the user as a fan for the artist or host
+     * If the track is a song, its genre and artist are checked right away, so a song
+     * without them fails on listen, like it would when counted
      *
-     * @param albumName The name of the album for which we want to add a listen
+     * @param track         The song or episode for which we add the listens
+     * @param count         The number of listens
+     * @param album         The album of the track ({@code null} if no album is counted)
+     * @param albumListened {@code true} if the user listened the album too,
+     *                      {@code false} if it's only counted for the artist
+     * @param owner         The trackers of the artist or host credited
+     *                      ({@code null} if nobody is credited)
      */
-    public void addListen(final String albumName) {
-        Album album = AlbumsLibrary.getInstance().getAlbumByName(albumName);
-        albumsListenTracker.addListen(album);
-    }
-
-    /**
-     * Adds one listen to the specified song
-     * If the song is premium, it also adds a listen for this song in the premium
-     * listened songs
-     *
-     * @param song The song for which we want to add a listen
-     * @see Song
-     */
-    public void addListen(final Song song) {
-        if (isPremium) {
-            premiumListenTracker.addListen(song);
-        } else {
-            freeListenTracker.addListen(song);
+    public void addListen(final Audio track,
+                          final int count,
+                          final Album album,
+                          final boolean albumListened,
+                          final ListenAggregator owner) {
+        if (CheckClass.isSong(track.getClass())) {
+            Objects.requireNonNull(((Song) track).getGenre());
+            Objects.requireNonNull(((Song) track).getArtist());
         }
-        songsListenTracker.addListen(song);
-        genresListenTracker.addListen(new NameableEntity(song.getGenre()));
-        artistsListenTracker.addListen(new NameableEntity(song.getArtist()));
+        events.log(registration, track, count, album, albumListened,
+                owner == null ? null : owner.registration, isPremium);
     }
 
     /**
-     * Add the specified number of listens for the song
-     * If the song is premium, it also adds the specified
-     * number of listens for this song in the premium
-     * listened songs
+     * Counts a logged listen in the trackers
+     * The songs are counted as premium or free by the status the user had on listen
      *
-     * @param song  The song for which we want to add the listens
-     * @param count The number of listens
-     * @see Song
+     * @param kind    What was listened
+     * @param entity  The listened entity
+     * @param count   The number of listens
+     * @param premium If the user was premium when the listen was logged
      */
-    public void addListen(final Song song, final int count) {
-        if (isPremium) {
-            premiumListenTracker.addListen(song, count);
-        } else {
-            freeListenTracker.addListen(song, count);
+    @Override
+    void aggregate(final ListenKind kind,
+                   final Entity entity,
+                   final int count,
+                   final boolean premium) {
+        switch (kind) {
+            case album -> albumsListenTracker.addListen((Album) entity, count);
+            case episode -> episodesListenTracker.addListen((Episode) entity, count);
+            case song -> {
+                Song song = (Song) entity;
+                if (premium) {
+                    premiumListenTracker.addListen(song, count);
+                } else {
+                    freeListenTracker.addListen(song, count);
+                }
+                songsListenTracker.addListen(song, count);
+                genresListenTracker.addListen(song.getGenre(), count, NameableEntity::new);
+                artistsListenTracker.addListen(song.getArtist(), count, NameableEntity::new);
+            }
+            default -> {
+            }
         }
-        songsListenTracker.addListen(song, count);
-        genresListenTracker.addListen(new NameableEntity(song.getGenre()), count);
-        artistsListenTracker.addListen(new NameableEntity(song.getArtist()), count);
-    }
-
-    /**
-     * Adds a listen for an Episode
-     *
-     * @param episode The Episode for which we want to add a listen
-     * @see Episode
-     */
-    public void addListen(final Episode episode) {
-        episodesListenTracker.addListen(episode);
-    }
-
-    /**
-     * Adds a listen for an audio file
-     * (this is used to add a listen for a Song, an Episode or on Album,
-     * for the other types of audio files, this does nothing)
-     *
-     * @param audio The audio file for which we want to add a listen
-     * @param <E>   The class of the audio file (Important ones are Song, Episode and Album)
-     * @see Song
-     * @see Episode
-     * @see Album
-     */
-    public <E extends Audio> void addListen(final E audio) {
-        audio.addListen(this);
     }
 
     /**
@@ -113,6 +108,7 @@ public final class ListenTrackerNormalUser {
      * @return A map with the top results for each category
      */
     public HashMap<String, Object> topListensForEach() {
+        events.drain();
         HashMap<String, Object> result = new LinkedHashMap<>();
 
         result.put("topArtists", artistsListenTracker.getTopFiveListensNames());
@@ -129,6 +125,7 @@ public final class ListenTrackerNormalUser {
      * @return {@code true} if the user hasn't listened anything, {@code false} otherwise
      */
     public boolean noListens() {
+        events.drain();
         return artistsListenTracker.isEmpty()
                 && genresListenTracker.isEmpty()
                 && songsListenTracker.isEmpty()
@@ -151,6 +148,7 @@ public final class ListenTrackerNormalUser {
      * @return A tree map with the premium listened songs ordered by their name
      */
     public TreeMap<Song, Integer> getPremiumSongs() {
+        events.drain();
         return premiumListenTracker.getListens();
     }
 
@@ -160,6 +158,7 @@ public final class ListenTrackerNormalUser {
      * @return A tree map with the free listened songs ordered by their name
      */
     public TreeMap<Song, Integer> getFreeSongs() {
+        events.drain();
         return freeListenTracker.getListens();
     }
 
@@ -167,6 +166,7 @@ public final class ListenTrackerNormalUser {
      * Empties the free songs tracker
      */
     public void emptyFreeSongs() {
+        events.drain();
         freeListenTracker.clear();
     }
 
@@ -174,6 +174,7 @@ public final class ListenTrackerNormalUser {
      * Empties the premium songs tracker
      */
     public void emptyPremiumSongs() {
+        events.drain();
         premiumListenTracker.clear();
     }
 }
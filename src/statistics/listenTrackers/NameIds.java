@@ -0,0 +1,66 @@
+package statistics.listenTrackers;
+
+import java.util.HashMap;
+import java.util.Objects;
+
+/**
+ * Gives every name of a listened entity (song, album, episode, artist, genre or user)
+ * a dense integer ID, so the listen trackers count listens by ID
+ * The trackers merge the entities with the same name, so the IDs are given per name
+ */
+public final class NameIds {
+    public static final int NO_ID = -1;
+    private static NameIds instance = null;
+    private final HashMap<String, Integer> ids = new HashMap<>();
+
+    private NameIds() {
+    }
+
+    /**
+     * Gets the instance for the name IDs class (singleton pattern)
+     * Initialize it if needed
+     *
+     * @return The instance
+     */
+    public static synchronized NameIds getInstance() {
+        if (instance == null) {
+            instance = new NameIds();
+        }
+        return instance;
+    }
+
+    /**
+     * Gets the ID of the specified name, giving it the next ID the first time it's used
+     *
+     * @param name The name
+     * @return The ID
+     */
+    public int idOf(final String name) {
+        Objects.requireNonNull(name);
+        Integer id = ids.get(name);
+        if (id == null) {
+            id = ids.size();
+            ids.put(name, id);
+        }
+        return id;
+    }
+
+    /**
+     * Finds the ID of the specified name, without giving it one if it wasn't used
+     * (for the lookups of names that might not have been listened)
+     *
+     * @param name The name
+     * @return The ID or {@code NO_ID} if the name wasn't used
+     */
+    public int findId(final String name) {
+        Integer id = ids.get(name);
+        return id == null ? NO_ID : id;
+    }
+
+    /**
+     * Forgets all the IDs, after the libraries (and the trackers with them) were reset
+     */
+    public void reset() {
+        ids.clear();
+    }
+}
@@ -0,0 +1,78 @@
+package statistics.listenTrackers;
+
+import entities.Entity;
+
+import java.util.Arrays;
+
+/**
+ * Listen tracker that keeps its five most listened entities up to date on every listen,
+ * so the top listens are read without going through all the listened entities
+ * The listens only grow, so an entity can only enter the top by passing its last entity
+ * (if listens are ever taken back, the top is found again the next time it's needed)
+ *
+ * @param <E> The class of the listened entities
+ */
+public final class TopListensTracker<E extends Entity> extends ListenTracker<E> {
+    private final int[] top = new int[NUMBER_TOP_RESULTS];
+    private int topSize = 0;
+    private boolean outdated = false;
+
+    @Override
+    protected void listened(final int position, final int count) {
+        if (count < 0) {
+            outdated = true;
+        }
+        if (outdated) {
+            return;
+        }
+        int index = indexInTop(position);
+        if (index < 0) {
+            if (topSize < top.length) {
+                index = topSize++;
+            } else if (ranksHigher(position, top[topSize - 1])) {
+                index = topSize - 1;
+            } else {
+                return;
+            }
+            top[index] = position;
+        }
+        while (index > 0 && ranksHigher(top[index], top[index - 1])) {
+            top[index] = top[index - 1];
+            top[index - 1] = position;
+            index--;
+        }
+    }
+
+    @Override
+    protected int[] getTopFivePositions() {
+        if (outdated) {
+            int[] found = super.getTopFivePositions();
+            System.arraycopy(found, 0, top, 0, found.length);
+            topSize = found.length;
+            outdated = false;
+        }
+        return Arrays.copyOf(top, topSize);
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        topSize = 0;
+        outdated = false;
+    }
+
+    /**
+     * Finds the index of the entity at the specified position in the top
+     *
+     * @param position The position of the entity
+     * @return The index or -1 if it isn't in the top
+     */
+    private int indexInTop(final int position) {
+        for (int index = 0; index < topSize; index++) {
+            if (top[index] == position) {
+                return index;
+            }
+        }
+        return -1;
+    }
+}